@@ -132,7 +132,14 @@ public abstract class Clock {
      * @see ZoneId#systemDefault()
      */
     public static Clock systemDefaultZone() {
-        return new SystemClock(ZoneId.systemDefault());
+        // GWT specific - reuse the clock while the default zone is the same
+        ZoneId zone = ZoneId.systemDefault();
+        SystemClock clock = SystemClock.defaultZoneClock;
+        if (clock == null || clock.zone != zone) {
+            clock = new SystemClock(zone);
+            SystemClock.defaultZoneClock = clock;
+        }
+        return clock;
     }
 
     /**
@@ -407,6 +414,9 @@ public abstract class Clock {
     static final class SystemClock extends Clock implements Serializable {
         private static final long serialVersionUID = 6740630888130243051L;
         static final SystemClock CLOCK_UTC = new SystemClock(ZoneOffset.UTC);
+        // GWT specific
+        /** The clock of the last system default zone, null if none. */
+        static SystemClock defaultZoneClock;
         private final ZoneId zone;
 
         SystemClock(ZoneId zone) {
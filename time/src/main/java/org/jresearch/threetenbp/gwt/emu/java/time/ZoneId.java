@@ -223,6 +223,11 @@ public abstract class ZoneId implements Serializable {
 	 * Serialization version.
 	 */
 	private static final long serialVersionUID = 8352817235686L;
+	// GWT specific
+	/**
+	 * The cached system default zone, null if not resolved yet.
+	 */
+	private static DefaultZone defaultZone;
 
 	// -----------------------------------------------------------------------
 	/**
@@ -231,20 +236,37 @@ public abstract class ZoneId implements Serializable {
 	 * This queries {@link TimeZone#getDefault()} to find the default time-zone and
 	 * converts it to a {@code ZoneId}. If the system default time-zone is changed,
 	 * then the result of this method will also change.
+	 * <p>
+	 * The zone is cached and resolved again when the browser offset changes,
+	 * a change to a zone with the same offset needs
+	 * {@link Support#refreshDefaultZone()}.
 	 *
 	 * @return the zone ID, not null
 	 * @throws DateTimeException  if the converted zone ID has an invalid format
 	 * @throws ZoneRulesException if the converted zone region ID cannot be found
 	 */
 	public static ZoneId systemDefault() {
-		// GWT specific
+		// GWT specific - the resolved zone is reused while the browser offset stays the same
+		int minutesOffset = Support.getMinutesOffset();
+		int version = Support.getDefaultZoneVersion();
+		DefaultZone cached = defaultZone;
+		if (cached != null && cached.version == version) {
+			if (cached.minutesOffset == minutesOffset) {
+				return cached.zone;
+			}
+			// the system zone may have changed too
+			Support.refreshDefaultZone();
+			version = Support.getDefaultZoneVersion();
+		}
 		String browserZone = Support.getTimezone();
 		try {
-			return ZoneId.of(browserZone);
+			ZoneId zone = ZoneId.of(browserZone);
+			defaultZone = new DefaultZone(zone, minutesOffset, version);
+			return zone;
 		} catch (ZoneRulesException e) {
 			LOGGER.warn("Can't resolve system default zone {}: {}. Fallback to zone offset", browserZone, e.getMessage());
 		}
-		int minutesOffset = Support.getMinutesOffset();
+		// not cached, the zone data may not be loaded yet
 		return ZoneOffset.ofTotalSeconds(minutesOffset * 60);
 	}
 
@@ -570,4 +592,21 @@ public abstract class ZoneId implements Serializable {
 		return getId();
 	}
 
+	// GWT specific
+	/**
+	 * The resolved system default zone with the browser offset and the
+	 * {@link Support#getDefaultZoneVersion() version} it is valid for.
+	 */
+	private static final class DefaultZone {
+		private final ZoneId zone;
+		private final int minutesOffset;
+		private final int version;
+
+		private DefaultZone(ZoneId zone, int minutesOffset, int version) {
+			this.zone = zone;
+			this.minutesOffset = minutesOffset;
+			this.version = version;
+		}
+	}
+
 }
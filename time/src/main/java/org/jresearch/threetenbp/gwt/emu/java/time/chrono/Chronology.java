@@ -142,6 +142,18 @@ public abstract class Chronology implements Comparable<Chronology> {
      * Map of available calendars by calendar type.
      */
     private static final ConcurrentHashMap<String, Chronology> CHRONOS_BY_TYPE = new ConcurrentHashMap<String, Chronology>();
+    /**
+     * Whether the calendar systems other than ISO are loaded behind a split point,
+     * set by the {@code org.jresearch.threetenbp.gwt.time.chrono.async} configuration property.
+     */
+    // GWT specific
+    private static final boolean ASYNC = "true".equals(System.getProperty("org.jresearch.threetenbp.gwt.time.chrono.async", "false"));
+    /**
+     * The locale of the Japanese calendar system, not {@code JapaneseChronology.LOCALE}
+     * to keep the calendar out of the initial download.
+     */
+    // GWT specific
+    private static final Locale JAPANESE_LOCALE = new Locale("ja", "JP", "JP");
 
     //-----------------------------------------------------------------------
     /**
@@ -212,7 +224,7 @@ public abstract class Chronology implements Comparable<Chronology> {
         Objects.requireNonNull(locale, "locale");
 		// GWT TODO specific - use browser?
         String type = "iso";
-		if (locale.equals(JapaneseChronology.LOCALE)) {
+		if (locale.equals(JAPANESE_LOCALE)) {
 			type = "japanese";
 		}
 //  GWT TODO      String type = locale.getUnicodeLocaleType("ca");
@@ -273,14 +285,15 @@ public abstract class Chronology implements Comparable<Chronology> {
     }
 
     private static void init() {
-        if (CHRONOS_BY_ID.isEmpty()) {
+        // GWT specific: the other calendar systems register themselves when loaded
+        if (!CHRONOS_BY_ID.containsKey(IsoChronology.INSTANCE.getId())) {
             register(IsoChronology.INSTANCE);
-            register(ThaiBuddhistChronology.INSTANCE);
-            register(MinguoChronology.INSTANCE);
-            register(JapaneseChronology.INSTANCE);
-            register(HijrahChronology.INSTANCE);
-            CHRONOS_BY_ID.putIfAbsent("Hijrah", HijrahChronology.INSTANCE);
-            CHRONOS_BY_TYPE.putIfAbsent("islamic", HijrahChronology.INSTANCE);
+            if (!ASYNC) {
+                register(ThaiBuddhistChronology.INSTANCE);
+                register(MinguoChronology.INSTANCE);
+                register(JapaneseChronology.INSTANCE);
+                register(HijrahChronology.INSTANCE);
+            }
 //GWT specific
 //            ServiceLoader<Chronology> loader =  ServiceLoader.load(Chronology.class, Chronology.class.getClassLoader());
 //            for (Chronology chrono : loader) {
@@ -293,9 +306,21 @@ public abstract class Chronology implements Comparable<Chronology> {
         }
     }
 
-    private static void register(Chronology chrono) {
-        CHRONOS_BY_ID.putIfAbsent(chrono.getId(), chrono);
-        String type = chrono.getCalendarType();
+    // GWT specific
+    static void register(Chronology chrono) {
+        register(chrono, chrono.getId(), chrono.getCalendarType());
+    }
+
+    /**
+     * Registers the chronology by the ID and the calendar type.
+     *
+     * @param chrono  the chronology to register, not null
+     * @param id  the chronology ID, not null
+     * @param type  the calendar system type, null if none
+     */
+    // GWT specific
+    static void register(Chronology chrono, String id, String type) {
+        CHRONOS_BY_ID.putIfAbsent(id, chrono);
         if (type != null) {
             CHRONOS_BY_TYPE.putIfAbsent(type, chrono);
         }
@@ -214,6 +214,11 @@ public final class HijrahChronology extends Chronology implements Serializable {
         ERA_SHORT_NAMES.put(FALLBACK_LANGUAGE, new String[]{"B.H.", "H.E."});
         ERA_FULL_NAMES.put(FALLBACK_LANGUAGE, new String[]{"Before Hijrah", "Hijrah Era"});
     }
+    // GWT specific: registered when loaded, see Chronology.of(String)
+    static {
+        register(INSTANCE);
+        register(INSTANCE, "Hijrah", "islamic");
+    }
 
     /**
      * Restrictive constructor.
@@ -105,6 +105,10 @@ public final class JapaneseChronology extends Chronology implements Serializable
      * Singleton instance for Japanese chronology.
      */
     public static final JapaneseChronology INSTANCE = new JapaneseChronology();
+    // GWT specific: registered when loaded, see Chronology.of(String)
+    static {
+        register(INSTANCE);
+    }
 
     /**
      * Serialization version.
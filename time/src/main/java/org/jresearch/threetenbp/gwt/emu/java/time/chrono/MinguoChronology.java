@@ -107,6 +107,10 @@ public final class MinguoChronology extends Chronology implements Serializable {
      * Singleton instance for the Minguo chronology.
      */
     public static final MinguoChronology INSTANCE = new MinguoChronology();
+    // GWT specific: registered when loaded, see Chronology.of(String)
+    static {
+        register(INSTANCE);
+    }
 
     /**
      * Serialization version.
@@ -107,6 +107,10 @@ public final class ThaiBuddhistChronology extends Chronology implements Serializ
      * Singleton instance of the Buddhist chronology.
      */
     public static final ThaiBuddhistChronology INSTANCE = new ThaiBuddhistChronology();
+    // GWT specific: registered when loaded, see Chronology.of(String)
+    static {
+        register(INSTANCE);
+    }
 
     /**
      * Serialization version.
@@ -68,7 +68,6 @@ import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalField;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQueries;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQuery;
-import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -96,7 +95,8 @@ final class DateTimeBuilder implements TemporalAccessor, Cloneable {
     /**
      * The map of other fields.
      */
-    final Map<TemporalField, Long> fieldValues = new HashMap<TemporalField, Long>();
+    // GWT specific - indexed slots
+    final FieldValues fieldValues = new FieldValues();
     /**
      * The chronology.
      */
@@ -653,17 +653,17 @@ final class DateTimeBuilder implements TemporalAccessor, Cloneable {
     @Override
     public long getLong(TemporalField field) {
     	Objects.requireNonNull(field, "field");
-        Long value = getFieldValue0(field);
-        if (value == null) {
-            if (date != null && date.isSupported(field)) {
-                return date.getLong(field);
-            }
-            if (time != null && time.isSupported(field)) {
-                return time.getLong(field);
-            }
-            throw new DateTimeException("Field not found: " + field);
+        // GWT specific - unboxed
+        if (fieldValues.containsKey(field)) {
+            return fieldValues.getLong(field);
+        }
+        if (date != null && date.isSupported(field)) {
+            return date.getLong(field);
+        }
+        if (time != null && time.isSupported(field)) {
+            return time.getLong(field);
         }
-        return value;
+        throw new DateTimeException("Field not found: " + field);
     }
 
     @SuppressWarnings("unchecked")
@@ -55,7 +55,9 @@ import org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.IsoFields;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalField;
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQueries;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQuery;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.format.FormatterCache;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
@@ -64,6 +66,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 
 /**
  * Formatter for printing and parsing date-time objects.
@@ -120,13 +123,18 @@ public final class DateTimeFormatter {
      */
     public static final DateTimeFormatter ISO_LOCAL_DATE;
     static {
-        ISO_LOCAL_DATE = new DateTimeFormatterBuilder()
+        // GWT specific: the printer-parser is built on first use
+        ISO_LOCAL_DATE = predefined(() -> IsoLocalDatePrinterParser.INSTANCE, ResolverStyle.STRICT, IsoChronology.INSTANCE, IsoLayout.LOCAL_DATE);
+    }
+    // GWT specific
+    private static final class IsoLocalDatePrinterParser {
+        static final CompositePrinterParser INSTANCE = new DateTimeFormatterBuilder()
             .appendValue(YEAR, 4, 10, SignStyle.EXCEEDS_PAD)
             .appendLiteral('-')
             .appendValue(MONTH_OF_YEAR, 2)
             .appendLiteral('-')
             .appendValue(DAY_OF_MONTH, 2)
-            .toFormatter(ResolverStyle.STRICT).withChronology(IsoChronology.INSTANCE);
+            .toPrinterParser();
     }
 
     //-----------------------------------------------------------------------
@@ -146,11 +154,16 @@ public final class DateTimeFormatter {
      */
     public static final DateTimeFormatter ISO_OFFSET_DATE;
     static {
-        ISO_OFFSET_DATE = new DateTimeFormatterBuilder()
+        // GWT specific: the printer-parser is built on first use
+        ISO_OFFSET_DATE = predefined(() -> IsoOffsetDatePrinterParser.INSTANCE, ResolverStyle.STRICT, IsoChronology.INSTANCE, null);
+    }
+    // GWT specific
+    private static final class IsoOffsetDatePrinterParser {
+        static final CompositePrinterParser INSTANCE = new DateTimeFormatterBuilder()
             .parseCaseInsensitive()
             .append(ISO_LOCAL_DATE)
             .appendOffsetId()
-            .toFormatter(ResolverStyle.STRICT).withChronology(IsoChronology.INSTANCE);
+            .toPrinterParser();
     }
 
     //-----------------------------------------------------------------------
@@ -173,12 +186,17 @@ public final class DateTimeFormatter {
      */
     public static final DateTimeFormatter ISO_DATE;
     static {
-        ISO_DATE = new DateTimeFormatterBuilder()
+        // GWT specific: the printer-parser is built on first use
+        ISO_DATE = predefined(() -> IsoDatePrinterParser.INSTANCE, ResolverStyle.STRICT, IsoChronology.INSTANCE, null);
+    }
+    // GWT specific
+    private static final class IsoDatePrinterParser {
+        static final CompositePrinterParser INSTANCE = new DateTimeFormatterBuilder()
             .parseCaseInsensitive()
             .append(ISO_LOCAL_DATE)
             .optionalStart()
             .appendOffsetId()
-            .toFormatter(ResolverStyle.STRICT).withChronology(IsoChronology.INSTANCE);
+            .toPrinterParser();
     }
 
     //-----------------------------------------------------------------------
@@ -207,7 +225,12 @@ public final class DateTimeFormatter {
      */
     public static final DateTimeFormatter ISO_LOCAL_TIME;
     static {
-        ISO_LOCAL_TIME = new DateTimeFormatterBuilder()
+        // GWT specific: the printer-parser is built on first use
+        ISO_LOCAL_TIME = predefined(() -> IsoLocalTimePrinterParser.INSTANCE, ResolverStyle.STRICT, null, IsoLayout.LOCAL_TIME);
+    }
+    // GWT specific
+    private static final class IsoLocalTimePrinterParser {
+        static final CompositePrinterParser INSTANCE = new DateTimeFormatterBuilder()
             .appendValue(HOUR_OF_DAY, 2)
             .appendLiteral(':')
             .appendValue(MINUTE_OF_HOUR, 2)
@@ -216,7 +239,7 @@ public final class DateTimeFormatter {
             .appendValue(SECOND_OF_MINUTE, 2)
             .optionalStart()
             .appendFraction(NANO_OF_SECOND, 0, 9, true)
-            .toFormatter(ResolverStyle.STRICT);
+            .toPrinterParser();
     }
 
     //-----------------------------------------------------------------------
@@ -236,11 +259,16 @@ public final class DateTimeFormatter {
      */
     public static final DateTimeFormatter ISO_OFFSET_TIME;
     static {
-        ISO_OFFSET_TIME = new DateTimeFormatterBuilder()
+        // GWT specific: the printer-parser is built on first use
+        ISO_OFFSET_TIME = predefined(() -> IsoOffsetTimePrinterParser.INSTANCE, ResolverStyle.STRICT, null, null);
+    }
+    // GWT specific
+    private static final class IsoOffsetTimePrinterParser {
+        static final CompositePrinterParser INSTANCE = new DateTimeFormatterBuilder()
             .parseCaseInsensitive()
             .append(ISO_LOCAL_TIME)
             .appendOffsetId()
-            .toFormatter(ResolverStyle.STRICT);
+            .toPrinterParser();
     }
 
     //-----------------------------------------------------------------------
@@ -263,12 +291,17 @@ public final class DateTimeFormatter {
      */
     public static final DateTimeFormatter ISO_TIME;
     static {
-        ISO_TIME = new DateTimeFormatterBuilder()
+        // GWT specific: the printer-parser is built on first use
+        ISO_TIME = predefined(() -> IsoTimePrinterParser.INSTANCE, ResolverStyle.STRICT, null, null);
+    }
+    // GWT specific
+    private static final class IsoTimePrinterParser {
+        static final CompositePrinterParser INSTANCE = new DateTimeFormatterBuilder()
             .parseCaseInsensitive()
             .append(ISO_LOCAL_TIME)
             .optionalStart()
             .appendOffsetId()
-            .toFormatter(ResolverStyle.STRICT);
+            .toPrinterParser();
     }
 
     //-----------------------------------------------------------------------
@@ -287,12 +320,17 @@ public final class DateTimeFormatter {
      */
     public static final DateTimeFormatter ISO_LOCAL_DATE_TIME;
     static {
-        ISO_LOCAL_DATE_TIME = new DateTimeFormatterBuilder()
+        // GWT specific: the printer-parser is built on first use
+        ISO_LOCAL_DATE_TIME = predefined(() -> IsoLocalDateTimePrinterParser.INSTANCE, ResolverStyle.STRICT, IsoChronology.INSTANCE, IsoLayout.LOCAL_DATE_TIME);
+    }
+    // GWT specific
+    private static final class IsoLocalDateTimePrinterParser {
+        static final CompositePrinterParser INSTANCE = new DateTimeFormatterBuilder()
             .parseCaseInsensitive()
             .append(ISO_LOCAL_DATE)
             .appendLiteral('T')
             .append(ISO_LOCAL_TIME)
-            .toFormatter(ResolverStyle.STRICT).withChronology(IsoChronology.INSTANCE);
+            .toPrinterParser();
     }
 
     //-----------------------------------------------------------------------
@@ -312,11 +350,16 @@ public final class DateTimeFormatter {
      */
     public static final DateTimeFormatter ISO_OFFSET_DATE_TIME;
     static {
-        ISO_OFFSET_DATE_TIME = new DateTimeFormatterBuilder()
+        // GWT specific: the printer-parser is built on first use
+        ISO_OFFSET_DATE_TIME = predefined(() -> IsoOffsetDateTimePrinterParser.INSTANCE, ResolverStyle.STRICT, IsoChronology.INSTANCE, IsoLayout.OFFSET_DATE_TIME);
+    }
+    // GWT specific
+    private static final class IsoOffsetDateTimePrinterParser {
+        static final CompositePrinterParser INSTANCE = new DateTimeFormatterBuilder()
             .parseCaseInsensitive()
             .append(ISO_LOCAL_DATE_TIME)
             .appendOffsetId()
-            .toFormatter(ResolverStyle.STRICT).withChronology(IsoChronology.INSTANCE);
+            .toPrinterParser();
     }
 
     //-----------------------------------------------------------------------
@@ -339,14 +382,19 @@ public final class DateTimeFormatter {
      */
     public static final DateTimeFormatter ISO_ZONED_DATE_TIME;
     static {
-        ISO_ZONED_DATE_TIME = new DateTimeFormatterBuilder()
+        // GWT specific: the printer-parser is built on first use
+        ISO_ZONED_DATE_TIME = predefined(() -> IsoZonedDateTimePrinterParser.INSTANCE, ResolverStyle.STRICT, IsoChronology.INSTANCE, null);
+    }
+    // GWT specific
+    private static final class IsoZonedDateTimePrinterParser {
+        static final CompositePrinterParser INSTANCE = new DateTimeFormatterBuilder()
             .append(ISO_OFFSET_DATE_TIME)
             .optionalStart()
             .appendLiteral('[')
             .parseCaseSensitive()
             .appendZoneRegionId()
             .appendLiteral(']')
-            .toFormatter(ResolverStyle.STRICT).withChronology(IsoChronology.INSTANCE);
+            .toPrinterParser();
     }
 
     //-----------------------------------------------------------------------
@@ -374,7 +422,12 @@ public final class DateTimeFormatter {
      */
     public static final DateTimeFormatter ISO_DATE_TIME;
     static {
-        ISO_DATE_TIME = new DateTimeFormatterBuilder()
+        // GWT specific: the printer-parser is built on first use
+        ISO_DATE_TIME = predefined(() -> IsoDateTimePrinterParser.INSTANCE, ResolverStyle.STRICT, IsoChronology.INSTANCE, null);
+    }
+    // GWT specific
+    private static final class IsoDateTimePrinterParser {
+        static final CompositePrinterParser INSTANCE = new DateTimeFormatterBuilder()
             .append(ISO_LOCAL_DATE_TIME)
             .optionalStart()
             .appendOffsetId()
@@ -383,7 +436,7 @@ public final class DateTimeFormatter {
             .parseCaseSensitive()
             .appendZoneRegionId()
             .appendLiteral(']')
-            .toFormatter(ResolverStyle.STRICT).withChronology(IsoChronology.INSTANCE);
+            .toPrinterParser();
     }
 
     //-----------------------------------------------------------------------
@@ -411,14 +464,19 @@ public final class DateTimeFormatter {
      */
     public static final DateTimeFormatter ISO_ORDINAL_DATE;
     static {
-        ISO_ORDINAL_DATE = new DateTimeFormatterBuilder()
+        // GWT specific: the printer-parser is built on first use
+        ISO_ORDINAL_DATE = predefined(() -> IsoOrdinalDatePrinterParser.INSTANCE, ResolverStyle.STRICT, IsoChronology.INSTANCE, null);
+    }
+    // GWT specific
+    private static final class IsoOrdinalDatePrinterParser {
+        static final CompositePrinterParser INSTANCE = new DateTimeFormatterBuilder()
             .parseCaseInsensitive()
             .appendValue(YEAR, 4, 10, SignStyle.EXCEEDS_PAD)
             .appendLiteral('-')
             .appendValue(DAY_OF_YEAR, 3)
             .optionalStart()
             .appendOffsetId()
-            .toFormatter(ResolverStyle.STRICT).withChronology(IsoChronology.INSTANCE);
+            .toPrinterParser();
     }
 
     //-----------------------------------------------------------------------
@@ -450,7 +508,12 @@ public final class DateTimeFormatter {
      */
     public static final DateTimeFormatter ISO_WEEK_DATE;
     static {
-        ISO_WEEK_DATE = new DateTimeFormatterBuilder()
+        // GWT specific: the printer-parser is built on first use
+        ISO_WEEK_DATE = predefined(() -> IsoWeekDatePrinterParser.INSTANCE, ResolverStyle.STRICT, IsoChronology.INSTANCE, null);
+    }
+    // GWT specific
+    private static final class IsoWeekDatePrinterParser {
+        static final CompositePrinterParser INSTANCE = new DateTimeFormatterBuilder()
             .parseCaseInsensitive()
             .appendValue(IsoFields.WEEK_BASED_YEAR, 4, 10, SignStyle.EXCEEDS_PAD)
             .appendLiteral("-W")
@@ -459,7 +522,7 @@ public final class DateTimeFormatter {
             .appendValue(DAY_OF_WEEK, 1)
             .optionalStart()
             .appendOffsetId()
-            .toFormatter(ResolverStyle.STRICT).withChronology(IsoChronology.INSTANCE);
+            .toPrinterParser();
     }
 
     //-----------------------------------------------------------------------
@@ -496,10 +559,15 @@ public final class DateTimeFormatter {
      */
     public static final DateTimeFormatter ISO_INSTANT;
     static {
-        ISO_INSTANT = new DateTimeFormatterBuilder()
+        // GWT specific: the printer-parser is built on first use
+        ISO_INSTANT = predefined(() -> IsoInstantPrinterParser.INSTANCE, ResolverStyle.STRICT, null, IsoLayout.INSTANT);
+    }
+    // GWT specific
+    private static final class IsoInstantPrinterParser {
+        static final CompositePrinterParser INSTANCE = new DateTimeFormatterBuilder()
             .parseCaseInsensitive()
             .appendInstant()
-            .toFormatter(ResolverStyle.STRICT);
+            .toPrinterParser();
     }
 
     //-----------------------------------------------------------------------
@@ -527,14 +595,19 @@ public final class DateTimeFormatter {
      */
     public static final DateTimeFormatter BASIC_ISO_DATE;
     static {
-        BASIC_ISO_DATE = new DateTimeFormatterBuilder()
+        // GWT specific: the printer-parser is built on first use
+        BASIC_ISO_DATE = predefined(() -> BasicIsoDatePrinterParser.INSTANCE, ResolverStyle.STRICT, IsoChronology.INSTANCE, null);
+    }
+    // GWT specific
+    private static final class BasicIsoDatePrinterParser {
+        static final CompositePrinterParser INSTANCE = new DateTimeFormatterBuilder()
             .parseCaseInsensitive()
             .appendValue(YEAR, 4)
             .appendValue(MONTH_OF_YEAR, 2)
             .appendValue(DAY_OF_MONTH, 2)
             .optionalStart()
             .appendOffset("+HHMMss", "Z")
-            .toFormatter(ResolverStyle.STRICT).withChronology(IsoChronology.INSTANCE);
+            .toPrinterParser();
     }
 
     //-----------------------------------------------------------------------
@@ -578,52 +651,60 @@ public final class DateTimeFormatter {
      */
     public static final DateTimeFormatter RFC_1123_DATE_TIME;
     static {
-        // manually code maps to ensure correct data always used
-        // (locale data can be changed by application code)
-        Map<Long, String> dow = new HashMap<>();
-        dow.put(1L, "Mon");
-        dow.put(2L, "Tue");
-        dow.put(3L, "Wed");
-        dow.put(4L, "Thu");
-        dow.put(5L, "Fri");
-        dow.put(6L, "Sat");
-        dow.put(7L, "Sun");
-        Map<Long, String> moy = new HashMap<>();
-        moy.put(1L, "Jan");
-        moy.put(2L, "Feb");
-        moy.put(3L, "Mar");
-        moy.put(4L, "Apr");
-        moy.put(5L, "May");
-        moy.put(6L, "Jun");
-        moy.put(7L, "Jul");
-        moy.put(8L, "Aug");
-        moy.put(9L, "Sep");
-        moy.put(10L, "Oct");
-        moy.put(11L, "Nov");
-        moy.put(12L, "Dec");
-        RFC_1123_DATE_TIME = new DateTimeFormatterBuilder()
-            .parseCaseInsensitive()
-            .parseLenient()
-            .optionalStart()
-            .appendText(DAY_OF_WEEK, dow)
-            .appendLiteral(", ")
-            .optionalEnd()
-            .appendValue(DAY_OF_MONTH, 1, 2, SignStyle.NOT_NEGATIVE)
-            .appendLiteral(' ')
-            .appendText(MONTH_OF_YEAR, moy)
-            .appendLiteral(' ')
-            .appendValue(YEAR, 4)  // 2 digit year not handled
-            .appendLiteral(' ')
-            .appendValue(HOUR_OF_DAY, 2)
-            .appendLiteral(':')
-            .appendValue(MINUTE_OF_HOUR, 2)
-            .optionalStart()
-            .appendLiteral(':')
-            .appendValue(SECOND_OF_MINUTE, 2)
-            .optionalEnd()
-            .appendLiteral(' ')
-            .appendOffset("+HHMM", "GMT")  // should handle UT/Z/EST/EDT/CST/CDT/MST/MDT/PST/MDT
-            .toFormatter(ResolverStyle.SMART).withChronology(IsoChronology.INSTANCE);
+        // GWT specific: the printer-parser is built on first use
+        RFC_1123_DATE_TIME = predefined(() -> Rfc1123DateTimePrinterParser.INSTANCE, ResolverStyle.SMART, IsoChronology.INSTANCE, null);
+    }
+    // GWT specific
+    private static final class Rfc1123DateTimePrinterParser {
+        static final CompositePrinterParser INSTANCE;
+        static {
+            // manually code maps to ensure correct data always used
+            // (locale data can be changed by application code)
+            Map<Long, String> dow = new HashMap<>();
+            dow.put(1L, "Mon");
+            dow.put(2L, "Tue");
+            dow.put(3L, "Wed");
+            dow.put(4L, "Thu");
+            dow.put(5L, "Fri");
+            dow.put(6L, "Sat");
+            dow.put(7L, "Sun");
+            Map<Long, String> moy = new HashMap<>();
+            moy.put(1L, "Jan");
+            moy.put(2L, "Feb");
+            moy.put(3L, "Mar");
+            moy.put(4L, "Apr");
+            moy.put(5L, "May");
+            moy.put(6L, "Jun");
+            moy.put(7L, "Jul");
+            moy.put(8L, "Aug");
+            moy.put(9L, "Sep");
+            moy.put(10L, "Oct");
+            moy.put(11L, "Nov");
+            moy.put(12L, "Dec");
+            INSTANCE = new DateTimeFormatterBuilder()
+                .parseCaseInsensitive()
+                .parseLenient()
+                .optionalStart()
+                .appendText(DAY_OF_WEEK, dow)
+                .appendLiteral(", ")
+                .optionalEnd()
+                .appendValue(DAY_OF_MONTH, 1, 2, SignStyle.NOT_NEGATIVE)
+                .appendLiteral(' ')
+                .appendText(MONTH_OF_YEAR, moy)
+                .appendLiteral(' ')
+                .appendValue(YEAR, 4)  // 2 digit year not handled
+                .appendLiteral(' ')
+                .appendValue(HOUR_OF_DAY, 2)
+                .appendLiteral(':')
+                .appendValue(MINUTE_OF_HOUR, 2)
+                .optionalStart()
+                .appendLiteral(':')
+                .appendValue(SECOND_OF_MINUTE, 2)
+                .optionalEnd()
+                .appendLiteral(' ')
+                .appendOffset("+HHMM", "GMT")  // should handle UT/Z/EST/EDT/CST/CDT/MST/MDT/PST/MDT
+                .toPrinterParser();
+        }
     }
 
     //-----------------------------------------------------------------------
@@ -753,6 +834,8 @@ public final class DateTimeFormatter {
      * Any non-letter character, other than '[', ']', '{', '}' and the single quote will be output directly.
      * Despite this, it is recommended to use single quotes around all characters that you want to
      * output directly to ensure that future changes do not break your application.
+     * <p>
+     * The formatters are cached by the pattern and locale, see {@link FormatterCache}.
      *
      * @param pattern  the pattern to use, not null
      * @return the formatter based on the pattern, not null
@@ -760,7 +843,8 @@ public final class DateTimeFormatter {
      * @see DateTimeFormatterBuilder#appendPattern(String)
      */
     public static DateTimeFormatter ofPattern(String pattern) {
-        return new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter();
+        // GWT specific
+        return FormatterCache.ofPattern(pattern, Locale.getDefault());
     }
 
     /**
@@ -773,6 +857,8 @@ public final class DateTimeFormatter {
      * <p>
      * The returned formatter will use the specified locale, but this can be changed
      * using {@link DateTimeFormatter#withLocale(Locale)}.
+     * <p>
+     * The formatters are cached by the pattern and locale, see {@link FormatterCache}.
      *
      * @param pattern  the pattern to use, not null
      * @param locale  the locale to use, not null
@@ -781,7 +867,8 @@ public final class DateTimeFormatter {
      * @see DateTimeFormatterBuilder#appendPattern(String)
      */
     public static DateTimeFormatter ofPattern(String pattern, Locale locale) {
-        return new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter(locale);
+        // GWT specific
+        return FormatterCache.ofPattern(pattern, locale);
     }
 
     //-----------------------------------------------------------------------
@@ -981,12 +1068,23 @@ public final class DateTimeFormatter {
             }
         }
     };
+    // GWT specific - gives DateTimeParseCursor and BulkFormatter the access to the contexts
+    static {
+        ParseContextBridge.register();
+        PrintContextBridge.register();
+    }
 
     //-----------------------------------------------------------------------
     /**
-     * The printer and/or parser to use, not null.
+     * The printer and/or parser to use, null until first use of a predefined formatter.
+     */
+    // GWT specific
+    private CompositePrinterParser printerParser;
+    /**
+     * The factory of the printer-parser of a predefined formatter, null if created eagerly.
      */
-    private final CompositePrinterParser printerParser;
+    // GWT specific
+    private final Supplier<CompositePrinterParser> printerParserFactory;
     /**
      * The locale to use for formatting, not null.
      */
@@ -1011,6 +1109,11 @@ public final class DateTimeFormatter {
      * The zone to use for formatting, null for no override.
      */
     private final ZoneId zone;
+    /**
+     * The hand written printer and parser of the ISO layout of the printer-parser, null if none.
+     */
+    // GWT specific
+    private final IsoLayout isoLayout;
 
     //-----------------------------------------------------------------------
     /**
@@ -1027,13 +1130,56 @@ public final class DateTimeFormatter {
     DateTimeFormatter(CompositePrinterParser printerParser, Locale locale,
                       DecimalStyle decimalStyle, ResolverStyle resolverStyle,
                       Set<TemporalField> resolverFields, Chronology chrono, ZoneId zone) {
-        this.printerParser = Objects.requireNonNull(printerParser, "printerParser");
+        this(Objects.requireNonNull(printerParser, "printerParser"), null, locale, decimalStyle, resolverStyle, resolverFields, chrono, zone, null);
+    }
+
+    // GWT specific
+    private DateTimeFormatter(CompositePrinterParser printerParser, Supplier<CompositePrinterParser> printerParserFactory, Locale locale,
+                      DecimalStyle decimalStyle, ResolverStyle resolverStyle,
+                      Set<TemporalField> resolverFields, Chronology chrono, ZoneId zone, IsoLayout isoLayout) {
+        this.printerParser = printerParser;
+        this.printerParserFactory = printerParserFactory;
         this.locale = Objects.requireNonNull(locale, "locale");
         this.decimalStyle = Objects.requireNonNull(decimalStyle, "decimalStyle");
         this.resolverStyle = Objects.requireNonNull(resolverStyle, "resolverStyle");
         this.resolverFields = resolverFields;
         this.chrono = chrono;
         this.zone = zone;
+        this.isoLayout = isoLayout;
+    }
+
+    /**
+     * Creates a predefined formatter which builds its printer-parser on first use.
+     * <p>
+     * The printer-parser is kept by a holder class, so the builders of the unused
+     * constants are never run and the hand written ISO layouts do not need them at all.
+     *
+     * @param printerParserFactory  the factory of the printer/parser, not null
+     * @param resolverStyle  the resolver style to use, not null
+     * @param chrono  the chronology to use, null for no override
+     * @param isoLayout  the layout of the formatter, null if none
+     * @return the formatter, not null
+     */
+    // GWT specific
+    private static DateTimeFormatter predefined(Supplier<CompositePrinterParser> printerParserFactory,
+                      ResolverStyle resolverStyle, Chronology chrono, IsoLayout isoLayout) {
+        return new DateTimeFormatter(null, printerParserFactory, Locale.getDefault(), DecimalStyle.STANDARD,
+                resolverStyle, null, chrono, null, isoLayout);
+    }
+
+    /**
+     * Gets the printer-parser, building the one of a predefined formatter if needed.
+     *
+     * @return the printer/parser, not null
+     */
+    // GWT specific
+    private CompositePrinterParser printerParser() {
+        CompositePrinterParser result = printerParser;
+        if (result == null) {
+            // the holder builds it once, a racing copy gets the same instance
+            result = printerParser = printerParserFactory.get();
+        }
+        return result;
     }
 
     //-----------------------------------------------------------------------
@@ -1064,7 +1210,7 @@ public final class DateTimeFormatter {
         if (this.locale.equals(locale)) {
             return this;
         }
-        return new DateTimeFormatter(printerParser, locale, decimalStyle, resolverStyle, resolverFields, chrono, zone);
+        return new DateTimeFormatter(printerParser, printerParserFactory, locale, decimalStyle, resolverStyle, resolverFields, chrono, zone, isoLayout);
     }
 
     //-----------------------------------------------------------------------
@@ -1089,7 +1235,7 @@ public final class DateTimeFormatter {
         if (this.decimalStyle.equals(decimalStyle)) {
             return this;
         }
-        return new DateTimeFormatter(printerParser, locale, decimalStyle, resolverStyle, resolverFields, chrono, zone);
+        return new DateTimeFormatter(printerParser, printerParserFactory, locale, decimalStyle, resolverStyle, resolverFields, chrono, zone, isoLayout);
     }
 
     //-----------------------------------------------------------------------
@@ -1134,7 +1280,7 @@ public final class DateTimeFormatter {
         if (Objects.equals(this.chrono, chrono)) {
             return this;
         }
-        return new DateTimeFormatter(printerParser, locale, decimalStyle, resolverStyle, resolverFields, chrono, zone);
+        return new DateTimeFormatter(printerParser, printerParserFactory, locale, decimalStyle, resolverStyle, resolverFields, chrono, zone, isoLayout);
     }
 
     //-----------------------------------------------------------------------
@@ -1181,7 +1327,7 @@ public final class DateTimeFormatter {
         if (Objects.equals(this.zone, zone)) {
             return this;
         }
-        return new DateTimeFormatter(printerParser, locale, decimalStyle, resolverStyle, resolverFields, chrono, zone);
+        return new DateTimeFormatter(printerParser, printerParserFactory, locale, decimalStyle, resolverStyle, resolverFields, chrono, zone, isoLayout);
     }
 
     //-----------------------------------------------------------------------
@@ -1223,7 +1369,7 @@ public final class DateTimeFormatter {
         if (Objects.equals(this.resolverStyle, resolverStyle)) {
             return this;
         }
-        return new DateTimeFormatter(printerParser, locale, decimalStyle, resolverStyle, resolverFields, chrono, zone);
+        return new DateTimeFormatter(printerParser, printerParserFactory, locale, decimalStyle, resolverStyle, resolverFields, chrono, zone, isoLayout);
     }
 
     //-----------------------------------------------------------------------
@@ -1282,14 +1428,14 @@ public final class DateTimeFormatter {
      */
     public DateTimeFormatter withResolverFields(TemporalField... resolverFields) {
         if (resolverFields == null) {
-            return new DateTimeFormatter(printerParser, locale, decimalStyle, resolverStyle, null, chrono, zone);
+            return new DateTimeFormatter(printerParser, printerParserFactory, locale, decimalStyle, resolverStyle, null, chrono, zone, isoLayout);
         }
         Set<TemporalField> fields = new HashSet<TemporalField>(Arrays.asList(resolverFields));
         if (Objects.equals(this.resolverFields, fields)) {
             return this;
         }
         fields = Collections.unmodifiableSet(fields);
-        return new DateTimeFormatter(printerParser, locale, decimalStyle, resolverStyle, fields, chrono, zone);
+        return new DateTimeFormatter(printerParser, printerParserFactory, locale, decimalStyle, resolverStyle, fields, chrono, zone, isoLayout);
     }
 
     /**
@@ -1333,13 +1479,25 @@ public final class DateTimeFormatter {
      */
     public DateTimeFormatter withResolverFields(Set<TemporalField> resolverFields) {
         if (resolverFields == null) {
-            return new DateTimeFormatter(printerParser, locale, decimalStyle, resolverStyle, null, chrono, zone);
+            return new DateTimeFormatter(printerParser, printerParserFactory, locale, decimalStyle, resolverStyle, null, chrono, zone, isoLayout);
         }
         if (Objects.equals(this.resolverFields, resolverFields)) {
             return this;
         }
             resolverFields = Collections.unmodifiableSet(new HashSet<>(resolverFields));
-        return new DateTimeFormatter(printerParser, locale, decimalStyle, resolverStyle, resolverFields, chrono, zone);
+        return new DateTimeFormatter(printerParser, printerParserFactory, locale, decimalStyle, resolverStyle, resolverFields, chrono, zone, isoLayout);
+    }
+
+    /**
+     * Checks if the hand written ISO layout gives the same result as the printer-parser,
+     * the settings of the formatter must not change the layout.
+     *
+     * @return true if the layout can be used
+     */
+    // GWT specific
+    boolean isIsoLayoutUsable() {
+        return isoLayout != null && zone == null && (chrono == null || chrono == IsoChronology.INSTANCE)
+                && decimalStyle.equals(DecimalStyle.STANDARD);
     }
 
     //-----------------------------------------------------------------------
@@ -1377,14 +1535,18 @@ public final class DateTimeFormatter {
     public void formatTo(TemporalAccessor temporal, Appendable appendable) {
         Objects.requireNonNull(temporal, "temporal");
         Objects.requireNonNull(appendable, "appendable");
+        // GWT specific - the ISO layouts of the known temporals are printed directly
+        if (appendable instanceof StringBuilder && isIsoLayoutUsable() && isoLayout.print(temporal, (StringBuilder) appendable)) {
+            return;
+        }
         try {
             DateTimePrintContext context = new DateTimePrintContext(temporal, this);
             if (appendable instanceof StringBuilder) {
-                printerParser.print(context, (StringBuilder) appendable);
+                printerParser().print(context, (StringBuilder) appendable);
             } else {
                 // buffer output to avoid writing to appendable in case of error
                 StringBuilder buf = new StringBuilder(32);
-                printerParser.print(context, buf);
+                printerParser().print(context, buf);
                 appendable.append(buf);
             }
         } catch (IOException ex) {
@@ -1392,6 +1554,24 @@ public final class DateTimeFormatter {
         }
     }
 
+    /**
+     * Prints a temporal with a reused context, used by {@link PrintContextBridge}.
+     *
+     * @param temporal  the temporal object to print, not null
+     * @param context  the context to reuse, not null
+     * @param isoLayoutUsable  the result of {@link #isIsoLayoutUsable()}
+     * @param buf  the buffer to print to, not null
+     */
+    // GWT specific
+    void print(TemporalAccessor temporal, DateTimePrintContext context, boolean isoLayoutUsable, StringBuilder buf) {
+        Objects.requireNonNull(temporal, "temporal");
+        if (isoLayoutUsable && isoLayout.print(temporal, buf)) {
+            return;
+        }
+        context.setTemporal(temporal);
+        printerParser().print(context, buf);
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Fully parses the text producing a temporal object.
@@ -1483,6 +1663,25 @@ public final class DateTimeFormatter {
     public <T> T parse(CharSequence text, TemporalQuery<T> type) {
         Objects.requireNonNull(text, "text");
         Objects.requireNonNull(type, "query");
+        // GWT specific - the usual ISO text is scanned directly, anything else is left to the general engine
+        if (resolverFields == null && type != TemporalQueries.chronology() && type != TemporalQueries.precision() && isIsoLayoutUsable()) {
+            TemporalAccessor parsed = null;
+            try {
+                parsed = isoLayout.parse(text);
+            } catch (DateTimeException | ArithmeticException ex) {
+                // the general engine reports the error
+            }
+            if (parsed != null) {
+                // the query runs once, its errors are reported as by the general engine
+                try {
+                    return type.queryFrom(parsed);
+                } catch (DateTimeParseException ex) {
+                    throw ex;
+                } catch (RuntimeException ex) {
+                    throw createError(text, ex);
+                }
+            }
+        }
         try {
 			DateTimeBuilder builder = parseToBuilder(text, null).resolve(resolverStyle, resolverFields);
 			return builder.build(type);
@@ -1638,7 +1837,7 @@ public final class DateTimeFormatter {
         Objects.requireNonNull(position, "position");
         DateTimeParseContext context = new DateTimeParseContext(this);
         int pos = position.getIndex();
-        pos = printerParser.parse(context, text, pos);
+        pos = printerParser().parse(context, text, pos);
         if (pos < 0) {
             position.setErrorIndex(~pos);  // index not updated from input
             return null;
@@ -1655,7 +1854,7 @@ public final class DateTimeFormatter {
      * @return the printer/parser, not null
      */
     CompositePrinterParser toPrinterParser(boolean optional) {
-        return printerParser.withOptional(optional);
+        return printerParser().withOptional(optional);
     }
 
 //    /**
@@ -1706,7 +1905,7 @@ public final class DateTimeFormatter {
      */
     @Override
     public String toString() {
-        String pattern = printerParser.toString();
+        String pattern = printerParser().toString();
         return pattern.startsWith("[") ? pattern : pattern.substring(1, pattern.length() - 1);
     }
 
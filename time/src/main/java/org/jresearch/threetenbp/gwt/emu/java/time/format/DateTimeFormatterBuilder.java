@@ -54,6 +54,7 @@ import org.jresearch.threetenbp.gwt.emu.java.time.ZoneOffset;
 import org.jresearch.threetenbp.gwt.emu.java.time.chrono.ChronoLocalDate;
 import org.jresearch.threetenbp.gwt.emu.java.time.chrono.Chronology;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.SimpleDateTimeTextProvider.LocaleStore;
+import org.jresearch.threetenbp.gwt.emu.java.time.format.SimpleDateTimeTextProvider.TextTree;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.IsoFields;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
@@ -78,7 +79,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Set;
-import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -735,6 +736,11 @@ public final class DateTimeFormatterBuilder {
             public Iterator<Entry<String, Long>> getTextIterator(TemporalField field, TextStyle style, Locale locale) {
                 return store.getTextIterator(style);
             }
+            // GWT specific
+            @Override
+            LocaleStore getStore(TemporalField field, Locale locale) {
+                return store;
+            }
         };
         appendInternal(new TextPrinterParser(field, TextStyle.FULL, provider));
         return this;
@@ -1411,7 +1417,7 @@ public final class DateTimeFormatterBuilder {
                     padNext(pad); // pad and continue parsing
                 }
                 // main rules
-                TemporalField field = FIELD_MAP.get(cur);
+                TemporalField field = cur < FIELD_MAP.length ? FIELD_MAP[cur] : null;
                 if (field != null) {
                     parseField(cur, count, field);
                 } else if (cur == 'z') {
@@ -1676,33 +1682,33 @@ public final class DateTimeFormatterBuilder {
         }
     }
 
-    /** Map of letters to fields. */
-    private static final Map<Character, TemporalField> FIELD_MAP = new HashMap<Character, TemporalField>();
+    /** Map of letters to fields, indexed by the letter. */
+    private static final TemporalField[] FIELD_MAP = new TemporalField['z' + 1];
     static {
-        FIELD_MAP.put('G', ChronoField.ERA);
-        FIELD_MAP.put('y', ChronoField.YEAR_OF_ERA);
-        FIELD_MAP.put('u', ChronoField.YEAR);
-        FIELD_MAP.put('Q', IsoFields.QUARTER_OF_YEAR);
-        FIELD_MAP.put('q', IsoFields.QUARTER_OF_YEAR);
-        FIELD_MAP.put('M', ChronoField.MONTH_OF_YEAR);
-        FIELD_MAP.put('L', ChronoField.MONTH_OF_YEAR);
-        FIELD_MAP.put('D', ChronoField.DAY_OF_YEAR);
-        FIELD_MAP.put('d', ChronoField.DAY_OF_MONTH);
-        FIELD_MAP.put('F', ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH);
-        FIELD_MAP.put('E', ChronoField.DAY_OF_WEEK);
-        FIELD_MAP.put('c', ChronoField.DAY_OF_WEEK);
-        FIELD_MAP.put('e', ChronoField.DAY_OF_WEEK);
-        FIELD_MAP.put('a', ChronoField.AMPM_OF_DAY);
-        FIELD_MAP.put('H', ChronoField.HOUR_OF_DAY);
-        FIELD_MAP.put('k', ChronoField.CLOCK_HOUR_OF_DAY);
-        FIELD_MAP.put('K', ChronoField.HOUR_OF_AMPM);
-        FIELD_MAP.put('h', ChronoField.CLOCK_HOUR_OF_AMPM);
-        FIELD_MAP.put('m', ChronoField.MINUTE_OF_HOUR);
-        FIELD_MAP.put('s', ChronoField.SECOND_OF_MINUTE);
-        FIELD_MAP.put('S', ChronoField.NANO_OF_SECOND);
-        FIELD_MAP.put('A', ChronoField.MILLI_OF_DAY);
-        FIELD_MAP.put('n', ChronoField.NANO_OF_SECOND);
-        FIELD_MAP.put('N', ChronoField.NANO_OF_DAY);
+        FIELD_MAP['G'] = ChronoField.ERA;
+        FIELD_MAP['y'] = ChronoField.YEAR_OF_ERA;
+        FIELD_MAP['u'] = ChronoField.YEAR;
+        FIELD_MAP['Q'] = IsoFields.QUARTER_OF_YEAR;
+        FIELD_MAP['q'] = IsoFields.QUARTER_OF_YEAR;
+        FIELD_MAP['M'] = ChronoField.MONTH_OF_YEAR;
+        FIELD_MAP['L'] = ChronoField.MONTH_OF_YEAR;
+        FIELD_MAP['D'] = ChronoField.DAY_OF_YEAR;
+        FIELD_MAP['d'] = ChronoField.DAY_OF_MONTH;
+        FIELD_MAP['F'] = ChronoField.ALIGNED_DAY_OF_WEEK_IN_MONTH;
+        FIELD_MAP['E'] = ChronoField.DAY_OF_WEEK;
+        FIELD_MAP['c'] = ChronoField.DAY_OF_WEEK;
+        FIELD_MAP['e'] = ChronoField.DAY_OF_WEEK;
+        FIELD_MAP['a'] = ChronoField.AMPM_OF_DAY;
+        FIELD_MAP['H'] = ChronoField.HOUR_OF_DAY;
+        FIELD_MAP['k'] = ChronoField.CLOCK_HOUR_OF_DAY;
+        FIELD_MAP['K'] = ChronoField.HOUR_OF_AMPM;
+        FIELD_MAP['h'] = ChronoField.CLOCK_HOUR_OF_AMPM;
+        FIELD_MAP['m'] = ChronoField.MINUTE_OF_HOUR;
+        FIELD_MAP['s'] = ChronoField.SECOND_OF_MINUTE;
+        FIELD_MAP['S'] = ChronoField.NANO_OF_SECOND;
+        FIELD_MAP['A'] = ChronoField.MILLI_OF_DAY;
+        FIELD_MAP['n'] = ChronoField.NANO_OF_SECOND;
+        FIELD_MAP['N'] = ChronoField.NANO_OF_DAY;
     }
 
     //-----------------------------------------------------------------------
@@ -1883,11 +1889,24 @@ public final class DateTimeFormatterBuilder {
      */
     public DateTimeFormatter toFormatter(Locale locale) {
         Objects.requireNonNull(locale, "locale");
+        CompositePrinterParser pp = toPrinterParser();
+        return new DateTimeFormatter(pp, locale, DecimalStyle.STANDARD, ResolverStyle.SMART, null, null, null);
+    }
+
+    /**
+     * Completes this builder by creating the printer-parser of the formatter.
+     * <p>
+     * Calling this method will end any open optional sections by repeatedly
+     * calling {@link #optionalEnd()}.
+     *
+     * @return the created printer-parser, not null
+     */
+    // GWT specific
+    CompositePrinterParser toPrinterParser() {
         while (active.parent != null) {
             optionalEnd();
         }
-        CompositePrinterParser pp = new CompositePrinterParser(printerParsers, false);
-        return new DateTimeFormatter(pp, locale, DecimalStyle.STANDARD, ResolverStyle.SMART, null, null, null);
+        return new CompositePrinterParser(printerParsers, false);
     }
 
     DateTimeFormatter toFormatter(ResolverStyle style) {
@@ -2873,6 +2892,21 @@ public final class DateTimeFormatterBuilder {
                 throw new IndexOutOfBoundsException();
             }
             TextStyle style = (context.isStrict() ? textStyle : null);
+            // GWT specific - one walk of the prefix tree instead of a comparison per text
+            LocaleStore store = provider.getStore(field, context.getLocale());
+            if (store != null) {
+                TextTree<Long> tree = store.getTextTree(style, context.isCaseSensitive());
+                if (tree != null) {
+                    TextTree<Long> match = tree.match(parseText, position);
+                    if (match != null) {
+                        return context.setParsedField(field, match.value, position, position + match.length);
+                    }
+                    if (context.isStrict()) {
+                        return ~position;
+                    }
+                }
+                return numberPrinterParser().parse(context, parseText, position);
+            }
             Iterator<Entry<String, Long>> it = provider.getTextIterator(field, style, context.getLocale());
             if (it != null) {
                 while (it.hasNext()) {
@@ -3349,17 +3383,14 @@ public final class DateTimeFormatterBuilder {
 
 		private static final String CUSTOM_ID_PREFIX = "GMT";
 
-        /** The text style to output. */
-        private static final Comparator<String> LENGTH_COMPARATOR = new Comparator<String>() {
-            @Override
-            public int compare(String str1, String str2) {
-                int cmp = str2.length() - str1.length();
-                if (cmp == 0) {
-                    cmp = str1.compareTo(str2);
-                }
-                return cmp;
-            }
-        };
+		/**
+		 * The cached trees of the zone names by the style, the locale and the case
+		 * sensitivity. The key of the entry is the number of the zone IDs the tree is
+		 * built for.
+		 */
+		// GWT specific
+		private static final Map<String, Entry<Integer, TextTree<String>>> CACHED_NAME_TREES = new ConcurrentHashMap<String, Entry<Integer, TextTree<String>>>();
+
         /** The text style to output. */
         private final TextStyle textStyle;
 
@@ -3424,35 +3455,21 @@ public final class DateTimeFormatterBuilder {
 
             // this is a poor implementation that handles some but not all of the spec
             // JDK8 has a lot of extra information here
-            Map<String, String> ids = new TreeMap<String, String>(LENGTH_COMPARATOR);
+			// GWT Specific - the names are cached per style and locale
 			String style = textStyle.asNormal() == TextStyle.FULL ? "long" : "short";
-            for (String id : ZoneId.getAvailableZoneIds()) {
-                ids.put(id, id);
-				LOGGER.debug("put key {} for ZoneId {}", id, id);
-				// GWT Specific
-				String textWinter = Support.displayTimeZone(false, id, style, context.getLocale().toLanguageTag());
-//                TimeZone tz = TimeZone.getTimeZone(id);
-//                int tzstyle = (textStyle.asNormal() == TextStyle.FULL ? TimeZone.LONG : TimeZone.SHORT);
-//                String textWinter = tz.getDisplayName(false, tzstyle, context.getLocale());
-				if (id.startsWith("Etc/") || (!textWinter.startsWith("GMT+") && !textWinter.startsWith("GMT-"))) {
-					ids.put(normalizedZoneCustomId(textWinter), id);
-					LOGGER.debug("put key {} for ZoneId {}", normalizedZoneCustomId(textWinter), id);
-                }
-				// GWT Specific
-//              String textSummer = tz.getDisplayName(true, tzstyle, context.getLocale());
-				String textSummer = Support.displayTimeZone(true, id, style, context.getLocale().toLanguageTag());
-				if (id.startsWith("Etc/") || (!textSummer.startsWith("GMT+") && !textSummer.startsWith("GMT-"))) {
-					ids.put(normalizedZoneCustomId(textSummer), id);
-					LOGGER.debug("put key {} for ZoneId {}", normalizedZoneCustomId(textSummer), id);
-                }
-            }
-            for (Entry<String, String> entry : ids.entrySet()) {
-                String name = entry.getKey();
-                if (context.subSequenceEquals(text, position, name, 0, name.length())) {
-                    context.setParsed(ZoneId.of(entry.getValue()));
-                    return position + name.length();
-                }
-            }
+			String languageTag = context.getLocale().toLanguageTag();
+			int regionIdsSize = ZoneRulesProvider.getAvailableZoneIds().size();
+			String key = style + '|' + languageTag + '|';
+			Entry<Integer, TextTree<String>> cached = CACHED_NAME_TREES.get(key + context.isCaseSensitive());
+			if (cached == null || cached.getKey() != regionIdsSize) {
+				prepareNameTrees(style, languageTag, regionIdsSize, key);
+				cached = CACHED_NAME_TREES.get(key + context.isCaseSensitive());
+			}
+			TextTree<String> match = cached.getValue().match(text, position);
+			if (match != null) {
+				context.setParsed(ZoneId.of(match.value));
+				return position + match.length;
+			}
             if (first == 'Z') {
                 context.setParsed(ZoneOffset.UTC);
                 return position + 1;
@@ -3488,6 +3505,50 @@ public final class DateTimeFormatterBuilder {
 			}
 		}
 
+		/**
+		 * Builds and caches the case sensitive and the case insensitive trees of the
+		 * zone IDs and the zone names, the names of a zone are asked for once. A
+		 * zone ID wins over an equal name of another zone, an equal name of several
+		 * zones goes to the first of them.
+		 *
+		 * @param style          the style of the names, long or short, not null
+		 * @param languageTag    the locale of the names, not null
+		 * @param regionIdsSize  the number of the zone IDs the trees are built for
+		 * @param key            the cache key without the case sensitivity, not null
+		 */
+		// GWT Specific
+		private void prepareNameTrees(String style, String languageTag, int regionIdsSize, String key) {
+			TextTree<String> sensitive = new TextTree<String>(true);
+			TextTree<String> insensitive = new TextTree<String>(false);
+			Set<String> ids = ZoneId.getAvailableZoneIds();
+			for (String id : ids) {
+				sensitive.add(id, id);
+				insensitive.add(id, id);
+			}
+			for (String id : ids) {
+				String textWinter = Support.displayTimeZone(false, id, style, languageTag);
+//                TimeZone tz = TimeZone.getTimeZone(id);
+//                int tzstyle = (textStyle.asNormal() == TextStyle.FULL ? TimeZone.LONG : TimeZone.SHORT);
+//                String textWinter = tz.getDisplayName(false, tzstyle, context.getLocale());
+				if (id.startsWith("Etc/") || (!textWinter.startsWith("GMT+") && !textWinter.startsWith("GMT-"))) {
+					String name = normalizedZoneCustomId(textWinter);
+					sensitive.add(name, id);
+					insensitive.add(name, id);
+					LOGGER.debug("put key {} for ZoneId {}", name, id);
+				}
+//              String textSummer = tz.getDisplayName(true, tzstyle, context.getLocale());
+				String textSummer = Support.displayTimeZone(true, id, style, languageTag);
+				if (id.startsWith("Etc/") || (!textSummer.startsWith("GMT+") && !textSummer.startsWith("GMT-"))) {
+					String name = normalizedZoneCustomId(textSummer);
+					sensitive.add(name, id);
+					insensitive.add(name, id);
+					LOGGER.debug("put key {} for ZoneId {}", name, id);
+				}
+			}
+			CACHED_NAME_TREES.put(key + true, new SimpleImmutableEntry<Integer, TextTree<String>>(regionIdsSize, sensitive));
+			CACHED_NAME_TREES.put(key + false, new SimpleImmutableEntry<Integer, TextTree<String>>(regionIdsSize, insensitive));
+		}
+
 		private String normalizedZoneCustomId(String zoneCustomId) {
 			String result = zoneCustomId;
 			int length = zoneCustomId.length();
@@ -3889,6 +3950,11 @@ public final class DateTimeFormatterBuilder {
     static final class LocalizedPrinterParser implements DateTimePrinterParser {
         private final FormatStyle dateStyle;
         private final FormatStyle timeStyle;
+        /**
+         * The last resolved printer-parser, null if none.
+         */
+        // GWT specific
+        private ResolvedPrinterParser resolved;
 
         /**
          * Constructor.
@@ -3905,13 +3971,33 @@ public final class DateTimeFormatterBuilder {
         @Override
         public boolean print(DateTimePrintContext context, StringBuilder buf) {
             Chronology chrono = Chronology.from(context.getTemporal());
-            return formatter(context.getLocale(), chrono).toPrinterParser(false).print(context, buf);
+            return printerParser(context.getLocale(), chrono).print(context, buf);
         }
 
         @Override
         public int parse(DateTimeParseContext context, CharSequence text, int position) {
             Chronology chrono = context.getEffectiveChronology();
-            return formatter(context.getLocale(), chrono).toPrinterParser(false).parse(context, text, position);
+            return printerParser(context.getLocale(), chrono).parse(context, text, position);
+        }
+
+        /**
+         * Gets the printer-parser to use, the last one is reused while the locale
+         * and the chronology stay the same.
+         *
+         * @param locale  the locale to use, not null
+         * @param chrono  the chronology to use, not null
+         * @return the printer-parser, not null
+         * @throws IllegalArgumentException if the formatter cannot be found
+         */
+        // GWT specific
+        private CompositePrinterParser printerParser(Locale locale, Chronology chrono) {
+            ResolvedPrinterParser last = resolved;
+            if (last != null && last.chrono.equals(chrono) && last.locale.equals(locale)) {
+                return last.printerParser;
+            }
+            CompositePrinterParser printerParser = formatter(locale, chrono).toPrinterParser(false);
+            resolved = new ResolvedPrinterParser(locale, chrono, printerParser);
+            return printerParser;
         }
 
         /**
@@ -3931,6 +4017,24 @@ public final class DateTimeFormatterBuilder {
             return "Localized(" + (dateStyle != null ? dateStyle : "") + "," +
                 (timeStyle != null ? timeStyle : "") + ")";
         }
+
+        /**
+         * The printer-parser resolved for a locale and a chronology.
+         * <p>
+         * This class is immutable and thread-safe.
+         */
+        // GWT specific
+        private static final class ResolvedPrinterParser {
+            private final Locale locale;
+            private final Chronology chrono;
+            private final CompositePrinterParser printerParser;
+
+            ResolvedPrinterParser(Locale locale, Chronology chrono, CompositePrinterParser printerParser) {
+                this.locale = locale;
+                this.chrono = chrono;
+                this.printerParser = printerParser;
+            }
+        }
     }
 
     //-----------------------------------------------------------------------
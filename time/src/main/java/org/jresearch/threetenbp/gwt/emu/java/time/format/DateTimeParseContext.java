@@ -45,11 +45,9 @@ import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQueries;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQuery;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.UnsupportedTemporalTypeException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
-import java.util.Map;
 import java.util.function.Consumer;
 
 /**
@@ -140,6 +138,25 @@ final class DateTimeParseContext {
         return new DateTimeParseContext(this);
     }
 
+    // GWT specific
+    /**
+     * Resets this context to parse again, used by {@link ParseContextBridge}.
+     *
+     * @param reuse  true to clear the parsed data in place, false if it was handed out
+     */
+    void reset(boolean reuse) {
+        caseSensitive = true;
+        strict = true;
+        Parsed first = parsed.get(0);
+        parsed.clear();
+        if (reuse) {
+            first.clear();
+            parsed.add(first);
+        } else {
+            parsed.add(new Parsed());
+        }
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Gets the locale.
@@ -345,8 +362,8 @@ final class DateTimeParseContext {
      */
     int setParsedField(TemporalField field, long value, int errorPos, int successPos) {
         Objects.requireNonNull(field, "field");
-        Long old = currentParsed().fieldValues.put(field, value);
-        return (old != null && old.longValue() != value) ? ~errorPos : successPos;
+        // GWT specific - unboxed
+        return currentParsed().fieldValues.putValue(field, value) ? ~errorPos : successPos;
     }
 
     /**
@@ -428,18 +445,31 @@ final class DateTimeParseContext {
     final class Parsed implements TemporalAccessor {
         Chronology chrono = null;
         ZoneId zone = null;
-        final Map<TemporalField, Long> fieldValues = new HashMap<TemporalField, Long>();
+        // GWT specific - indexed slots, shared by the copies until changed
+        final FieldValues fieldValues;
         boolean leapSecond;
         Period excessDays = Period.ZERO;
         List<Object[]> callbacks;
 
         private Parsed() {
+            this(new FieldValues());
+        }
+        private Parsed(FieldValues fieldValues) {
+            this.fieldValues = fieldValues;
+        }
+        // GWT specific
+        private void clear() {
+            chrono = null;
+            zone = null;
+            fieldValues.clear();
+            leapSecond = false;
+            excessDays = Period.ZERO;
+            callbacks = null;
         }
         protected Parsed copy() {
-            Parsed cloned = new Parsed();
+            Parsed cloned = new Parsed(fieldValues.copy());
             cloned.chrono = this.chrono;
             cloned.zone = this.zone;
-            cloned.fieldValues.putAll(this.fieldValues);
             cloned.leapSecond = this.leapSecond;
             return cloned;
         }
@@ -458,7 +488,7 @@ final class DateTimeParseContext {
             if (fieldValues.containsKey(field) == false) {
                 throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
             }
-            long value = fieldValues.get(field);
+            long value = fieldValues.getLong(field);
             return Math.toIntExact(value);
         }
         @Override
@@ -468,7 +498,7 @@ final class DateTimeParseContext {
             if (fieldValues.containsKey(field) == false) {
                 throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
             }
-            return fieldValues.get(field);
+            return fieldValues.getLong(field);
         }
         @SuppressWarnings("unchecked")
         @Override
@@ -80,6 +80,15 @@ final class DateTimePrintContext {
      * Whether the current formatter is optional.
      */
     private int optional;
+    // GWT specific
+    /**
+     * The override chronology of the formatter, null if none.
+     */
+    private Chronology overrideChrono;
+    /**
+     * The override zone of the formatter, null if none.
+     */
+    private ZoneId overrideZone;
 
     /**
      * Creates a new instance of the context.
@@ -88,10 +97,23 @@ final class DateTimePrintContext {
      * @param formatter  the formatter controlling the print, not null
      */
     DateTimePrintContext(TemporalAccessor temporal, DateTimeFormatter formatter) {
+        this(formatter);
+        setTemporal(temporal);
+    }
+
+    // GWT specific
+    /**
+     * Creates a new instance of the context to print many temporals,
+     * see {@link #setTemporal(TemporalAccessor)}.
+     *
+     * @param formatter  the formatter controlling the print, not null
+     */
+    DateTimePrintContext(DateTimeFormatter formatter) {
         super();
-        this.temporal = adjust(temporal, formatter);
         this.locale = formatter.getLocale();
         this.symbols = formatter.getDecimalStyle();
+        this.overrideChrono = formatter.getChronology();
+        this.overrideZone = formatter.getZone();
     }
 
     // for testing
@@ -101,14 +123,23 @@ final class DateTimePrintContext {
         this.symbols = symbols;
     }
 
-    private static TemporalAccessor adjust(final TemporalAccessor temporal, DateTimeFormatter formatter) {
+    // GWT specific
+    /**
+     * Sets the temporal to print next, applying the overrides of the formatter.
+     *
+     * @param temporal  the temporal object being output, not null
+     */
+    void setTemporal(TemporalAccessor temporal) {
         // normal case first
-        Chronology overrideChrono = formatter.getChronology();
-        ZoneId overrideZone = formatter.getZone();
         if (overrideChrono == null && overrideZone == null) {
-            return temporal;
+            this.temporal = temporal;
+        } else {
+            this.temporal = adjust(temporal, overrideChrono, overrideZone);
         }
+        this.optional = 0;
+    }
 
+    private static TemporalAccessor adjust(final TemporalAccessor temporal, Chronology overrideChrono, ZoneId overrideZone) {
         // ensure minimal change
         Chronology temporalChrono = temporal.query(TemporalQueries.chronology());
         ZoneId temporalZone = temporal.query(TemporalQueries.zoneId());
@@ -32,6 +32,7 @@
 package org.jresearch.threetenbp.gwt.emu.java.time.format;
 
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalField;
+import org.jresearch.threetenbp.gwt.emu.java.time.format.SimpleDateTimeTextProvider.LocaleStore;
 import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map.Entry;
@@ -113,6 +114,22 @@ abstract class DateTimeTextProvider {
      */
     public abstract Iterator<Entry<String, Long>> getTextIterator(TemporalField field, TextStyle style, Locale locale);
 
+    /**
+     * Gets the store of the texts for the specified field and locale
+     * for the purpose of parsing.
+     * <p>
+     * The parser uses the prefix trees of the store if there is one and falls back to
+     * {@link #getTextIterator(TemporalField, TextStyle, Locale)} otherwise.
+     *
+     * @param field  the field to get the store for, not null
+     * @param locale  the locale to get the store for, not null
+     * @return the store, null if the provider has no store
+     */
+    //GWT specific
+    LocaleStore getStore(TemporalField field, Locale locale) {
+        return null;
+    }
+
     //-----------------------------------------------------------------------
     // use JVM class initializtion to lock the singleton without additional synchronization
     //GWT specific
@@ -0,0 +1,388 @@
+package org.jresearch.threetenbp.gwt.emu.java.time.format;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField;
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalField;
+
+/**
+ * Map of the parsed and resolved field values.
+ * <p>
+ * The values of the {@link ChronoField}s are kept unboxed in slots indexed by
+ * the ordinal of the field with a bit mask of the present fields, the other
+ * fields ({@code IsoFields}, {@code WeekFields} and so on) in a small hash map
+ * created on demand. The iteration order is the order of the
+ * {@code ChronoField} constants followed by the other fields.
+ * <p>
+ * A {@link #copy()} shares the slots with the original until one of them is
+ * changed (copy-on-write), so copying for the optional sections is cheap.
+ *
+ * <h3>Specification for implementors</h3> This class is mutable and not
+ * thread-safe.
+ */
+final class FieldValues extends AbstractMap<TemporalField, Long> {
+
+	private static final ChronoField[] CHRONO_FIELDS = ChronoField.values();
+	private static final TemporalField[] NO_FIELDS = new TemporalField[0];
+
+	static {
+		if (CHRONO_FIELDS.length > Integer.SIZE) {
+			throw new IllegalStateException("The bit mask is too small for the fields: " + CHRONO_FIELDS.length);
+		}
+	}
+
+	/**
+	 * The values of the chrono fields by the ordinal.
+	 */
+	private long[] values;
+	/**
+	 * The bits of the present chrono fields by the ordinal.
+	 */
+	private int present;
+	/**
+	 * The values of the other fields, null if none.
+	 */
+	private Map<TemporalField, Long> others;
+	/**
+	 * True if the arrays and the map may be shared with a copy.
+	 */
+	private boolean shared;
+	/**
+	 * The number of the structural modifications, for the fail-fast iterators.
+	 */
+	private int modCount;
+	/**
+	 * The entry set view, lazily created.
+	 */
+	private Set<Map.Entry<TemporalField, Long>> entrySet;
+
+	FieldValues() {
+		values = new long[CHRONO_FIELDS.length];
+	}
+
+	/**
+	 * Creates a copy that shares the values until one of the maps is changed.
+	 *
+	 * @return the copy, not null
+	 */
+	FieldValues copy() {
+		FieldValues copy = new FieldValues(this);
+		shared = true;
+		return copy;
+	}
+
+	private FieldValues(FieldValues other) {
+		values = other.values;
+		present = other.present;
+		others = other.others;
+		shared = true;
+	}
+
+	/**
+	 * Checks if the chrono field is present.
+	 *
+	 * @param field
+	 *                  the field, not null
+	 * @return true if present
+	 */
+	boolean contains(ChronoField field) {
+		return (present & (1 << field.ordinal())) != 0;
+	}
+
+	/**
+	 * Gets the value of the present field without boxing.
+	 *
+	 * @param field
+	 *                  the field, must be present
+	 * @return the value
+	 */
+	long getLong(TemporalField field) {
+		if (field instanceof ChronoField) {
+			return values[((ChronoField) field).ordinal()];
+		}
+		return others.get(field);
+	}
+
+	/**
+	 * Stores the value of the field without boxing.
+	 *
+	 * @param field
+	 *                  the field, not null
+	 * @param value
+	 *                  the value
+	 * @return true if the field had another value before
+	 */
+	boolean putValue(TemporalField field, long value) {
+		if (field instanceof ChronoField) {
+			int ordinal = ((ChronoField) field).ordinal();
+			int bit = 1 << ordinal;
+			boolean conflict = (present & bit) != 0 && values[ordinal] != value;
+			if ((present & bit) == 0 || conflict) {
+				unshare();
+				values[ordinal] = value;
+				if ((present & bit) == 0) {
+					present |= bit;
+					modCount++;
+				}
+			}
+			return conflict;
+		}
+		Long old = put(field, value);
+		return old != null && old.longValue() != value;
+	}
+
+	//-----------------------------------------------------------------------
+	@Override
+	public int size() {
+		return Integer.bitCount(present) + (others == null ? 0 : others.size());
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return present == 0 && (others == null || others.isEmpty());
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		if (key instanceof ChronoField) {
+			return contains((ChronoField) key);
+		}
+		return others != null && others.containsKey(key);
+	}
+
+	@Override
+	public Long get(Object key) {
+		if (key instanceof ChronoField) {
+			int ordinal = ((ChronoField) key).ordinal();
+			return (present & (1 << ordinal)) != 0 ? values[ordinal] : null;
+		}
+		return others == null ? null : others.get(key);
+	}
+
+	@Override
+	public Long put(TemporalField key, Long value) {
+		if (key instanceof ChronoField) {
+			// slots cannot hold null
+			long newValue = value.longValue();
+			Long old = get(key);
+			unshare();
+			int ordinal = ((ChronoField) key).ordinal();
+			values[ordinal] = newValue;
+			if (old == null) {
+				present |= 1 << ordinal;
+				modCount++;
+			}
+			return old;
+		}
+		unshare();
+		if (others == null) {
+			others = new HashMap<TemporalField, Long>(4);
+		}
+		if (!others.containsKey(key)) {
+			modCount++;
+		}
+		return others.put(key, value);
+	}
+
+	@Override
+	public Long remove(Object key) {
+		if (key instanceof ChronoField) {
+			Long old = get(key);
+			if (old != null) {
+				present &= ~(1 << ((ChronoField) key).ordinal());
+				modCount++;
+			}
+			return old;
+		}
+		if (others == null || !others.containsKey(key)) {
+			return null;
+		}
+		unshare();
+		modCount++;
+		return others.remove(key);
+	}
+
+	@Override
+	public void putAll(Map<? extends TemporalField, ? extends Long> map) {
+		if (map instanceof FieldValues && isEmpty()) {
+			// share until changed
+			FieldValues other = (FieldValues) map;
+			values = other.values;
+			present = other.present;
+			others = other.others;
+			shared = true;
+			other.shared = true;
+			modCount++;
+			return;
+		}
+		super.putAll(map);
+	}
+
+	@Override
+	public void clear() {
+		present = 0;
+		if (others != null) {
+			if (shared) {
+				others = null;
+			} else {
+				others.clear();
+			}
+		}
+		modCount++;
+	}
+
+	@Override
+	public Set<Map.Entry<TemporalField, Long>> entrySet() {
+		Set<Map.Entry<TemporalField, Long>> set = entrySet;
+		if (set == null) {
+			set = new EntrySet();
+			entrySet = set;
+		}
+		return set;
+	}
+
+	/**
+	 * Copies the shared arrays and map before a change.
+	 */
+	private void unshare() {
+		if (shared) {
+			values = values.clone();
+			if (others != null) {
+				others = new HashMap<TemporalField, Long>(others);
+			}
+			shared = false;
+		}
+	}
+
+	//-----------------------------------------------------------------------
+	private final class EntrySet extends AbstractSet<Map.Entry<TemporalField, Long>> {
+		@Override
+		public Iterator<Map.Entry<TemporalField, Long>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return FieldValues.this.size();
+		}
+
+		@Override
+		public void clear() {
+			FieldValues.this.clear();
+		}
+	}
+
+	/**
+	 * Iterates the chrono fields by the ordinal, then the other fields.
+	 */
+	private final class EntryIterator implements Iterator<Map.Entry<TemporalField, Long>> {
+		private int expectedModCount = modCount;
+		/** The ordinal of the next chrono field to check. */
+		private int nextOrdinal;
+		/** The snapshot of the other fields, null until the chrono fields are done. */
+		private TemporalField[] otherKeys;
+		/** The index of the next other field. */
+		private int nextOther;
+		/** The field returned last, null if none. */
+		private TemporalField last;
+
+		@Override
+		public boolean hasNext() {
+			checkModCount();
+			if (otherKeys == null) {
+				if (nextOrdinal < Integer.SIZE && (present >>> nextOrdinal) != 0) {
+					return true;
+				}
+				otherKeys = others == null ? NO_FIELDS : others.keySet().toArray(NO_FIELDS);
+			}
+			return nextOther < otherKeys.length;
+		}
+
+		@Override
+		public Map.Entry<TemporalField, Long> next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			if (otherKeys == null) {
+				int ordinal = Integer.numberOfTrailingZeros(present >>> nextOrdinal) + nextOrdinal;
+				nextOrdinal = ordinal + 1;
+				last = CHRONO_FIELDS[ordinal];
+			} else {
+				last = otherKeys[nextOther++];
+			}
+			return new Entry(last);
+		}
+
+		@Override
+		public void remove() {
+			checkModCount();
+			if (last == null) {
+				throw new IllegalStateException();
+			}
+			FieldValues.this.remove(last);
+			last = null;
+			expectedModCount = modCount;
+		}
+
+		private void checkModCount() {
+			if (modCount != expectedModCount) {
+				throw new ConcurrentModificationException();
+			}
+		}
+	}
+
+	/**
+	 * Entry writing through to the map.
+	 */
+	private final class Entry implements Map.Entry<TemporalField, Long> {
+		private final TemporalField key;
+
+		Entry(TemporalField key) {
+			this.key = key;
+		}
+
+		@Override
+		public TemporalField getKey() {
+			return key;
+		}
+
+		@Override
+		public Long getValue() {
+			return get(key);
+		}
+
+		@Override
+		public Long setValue(Long value) {
+			return put(key, value);
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (obj instanceof Map.Entry) {
+				Map.Entry<?, ?> other = (Map.Entry<?, ?>) obj;
+				Long value = getValue();
+				return key.equals(other.getKey()) && (value == null ? other.getValue() == null : value.equals(other.getValue()));
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			Long value = getValue();
+			return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+		}
+
+		@Override
+		public String toString() {
+			return key + "=" + getValue();
+		}
+	}
+
+}
@@ -0,0 +1,463 @@
+package org.jresearch.threetenbp.gwt.emu.java.time.format;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.DateTimeException;
+import org.jresearch.threetenbp.gwt.emu.java.time.Instant;
+import org.jresearch.threetenbp.gwt.emu.java.time.LocalDate;
+import org.jresearch.threetenbp.gwt.emu.java.time.LocalDateTime;
+import org.jresearch.threetenbp.gwt.emu.java.time.LocalTime;
+import org.jresearch.threetenbp.gwt.emu.java.time.OffsetDateTime;
+import org.jresearch.threetenbp.gwt.emu.java.time.OffsetTime;
+import org.jresearch.threetenbp.gwt.emu.java.time.ZoneOffset;
+import org.jresearch.threetenbp.gwt.emu.java.time.ZonedDateTime;
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
+
+/**
+ * Hand written printers and parsers of the fixed ISO layouts of the
+ * {@link DateTimeFormatter} constants.
+ * <p>
+ * A printer writes the digits of the primitive fields of the known temporal
+ * types directly into the buffer, the output is the same as the one of the
+ * printer-parser chain of the constant. Other temporal types are left to the
+ * chain.
+ * <p>
+ * A parser scans the usual form of the layout (four digit year, two digit
+ * fields, no leap second or end of day) directly into the primitive fields
+ * and creates the temporal. Any other text is left to the chain, which
+ * accepts more and reports the errors.
+ * <p>
+ * The layouts are used only by the formatters with the standard decimal style
+ * and no zone or non ISO chronology override.
+ * <p>
+ * This class is immutable and thread-safe.
+ */
+enum IsoLayout {
+
+	/** {@link DateTimeFormatter#ISO_LOCAL_DATE} */
+	LOCAL_DATE {
+		@Override
+		boolean print(TemporalAccessor temporal, StringBuilder buf) {
+			LocalDate date = toLocalDate(temporal);
+			if (date == null) {
+				return false;
+			}
+			appendDate(buf, date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+			return true;
+		}
+
+		@Override
+		TemporalAccessor parse(CharSequence text) {
+			return text.length() == DATE_LENGTH ? parseDate(text) : null;
+		}
+	},
+
+	/** {@link DateTimeFormatter#ISO_LOCAL_TIME} */
+	LOCAL_TIME {
+		@Override
+		boolean print(TemporalAccessor temporal, StringBuilder buf) {
+			LocalTime time;
+			if (temporal instanceof LocalTime) {
+				time = (LocalTime) temporal;
+			} else if (temporal instanceof OffsetTime) {
+				time = ((OffsetTime) temporal).toLocalTime();
+			} else {
+				LocalDateTime dateTime = toLocalDateTime(temporal);
+				if (dateTime == null) {
+					return false;
+				}
+				time = dateTime.toLocalTime();
+			}
+			appendTime(buf, time);
+			return true;
+		}
+
+		@Override
+		TemporalAccessor parse(CharSequence text) {
+			return parseTime(text, 0, text.length());
+		}
+	},
+
+	/** {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} */
+	LOCAL_DATE_TIME {
+		@Override
+		boolean print(TemporalAccessor temporal, StringBuilder buf) {
+			LocalDateTime dateTime = toLocalDateTime(temporal);
+			if (dateTime == null) {
+				return false;
+			}
+			appendDateTime(buf, dateTime);
+			return true;
+		}
+
+		@Override
+		TemporalAccessor parse(CharSequence text) {
+			return parseDateTime(text, text.length());
+		}
+	},
+
+	/** {@link DateTimeFormatter#ISO_OFFSET_DATE_TIME} */
+	OFFSET_DATE_TIME {
+		@Override
+		boolean print(TemporalAccessor temporal, StringBuilder buf) {
+			if (temporal instanceof OffsetDateTime) {
+				OffsetDateTime dateTime = (OffsetDateTime) temporal;
+				appendDateTime(buf, dateTime.toLocalDateTime());
+				buf.append(dateTime.getOffset().getId());
+				return true;
+			}
+			if (temporal instanceof ZonedDateTime) {
+				ZonedDateTime dateTime = (ZonedDateTime) temporal;
+				appendDateTime(buf, dateTime.toLocalDateTime());
+				buf.append(dateTime.getOffset().getId());
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		TemporalAccessor parse(CharSequence text) {
+			int offsetStart = findOffset(text);
+			if (offsetStart < 0) {
+				return null;
+			}
+			LocalDateTime dateTime = parseDateTime(text, offsetStart);
+			ZoneOffset offset = parseOffset(text, offsetStart);
+			return dateTime == null || offset == null ? null : OffsetDateTime.of(dateTime, offset);
+		}
+	},
+
+	/** {@link DateTimeFormatter#ISO_INSTANT} */
+	INSTANT {
+		@Override
+		boolean print(TemporalAccessor temporal, StringBuilder buf) {
+			if (!(temporal instanceof Instant)) {
+				return false;
+			}
+			Instant instant = (Instant) temporal;
+			long epochSecond = instant.getEpochSecond();
+			// the years out of 0000-9999 have a special layout
+			if (epochSecond < -SECONDS_0000_TO_1970 || epochSecond >= SECONDS_1970_TO_10000) {
+				return false;
+			}
+			long epochDay = Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+			int secondOfDay = (int) Math.floorMod(epochSecond, SECONDS_PER_DAY);
+			appendEpochDay(buf, epochDay);
+			buf.append('T');
+			appendTwoDigits(buf, secondOfDay / 3600);
+			buf.append(':');
+			appendTwoDigits(buf, secondOfDay / 60 % 60);
+			buf.append(':');
+			appendTwoDigits(buf, secondOfDay % 60);
+			int nano = instant.getNano();
+			if (nano != 0) {
+				buf.append('.');
+				if (nano % 1000_000 == 0) {
+					appendDigits(buf, nano / 1000_000, 3);
+				} else if (nano % 1000 == 0) {
+					appendDigits(buf, nano / 1000, 6);
+				} else {
+					appendDigits(buf, nano, 9);
+				}
+			}
+			buf.append('Z');
+			return true;
+		}
+
+		@Override
+		TemporalAccessor parse(CharSequence text) {
+			int end = text.length() - 1;
+			// the seconds are required
+			if (end < DATE_LENGTH + 9 || !isZ(text.charAt(end))) {
+				return null;
+			}
+			LocalDateTime dateTime = parseDateTime(text, end);
+			return dateTime == null ? null : Instant.ofEpochSecond(dateTime.toEpochSecond(ZoneOffset.UTC), dateTime.getNano());
+		}
+	};
+
+	private static final long SECONDS_PER_DAY = 86400L;
+	private static final long DAYS_PER_CYCLE = 146097L;
+	private static final long DAYS_0000_TO_1970 = (DAYS_PER_CYCLE * 5L) - (30L * 365L + 7L);
+	private static final long SECONDS_0000_TO_1970 = DAYS_0000_TO_1970 * SECONDS_PER_DAY;
+	/** 10000-01-01T00:00Z */
+	private static final long SECONDS_1970_TO_10000 = (DAYS_PER_CYCLE * 25L - DAYS_0000_TO_1970) * SECONDS_PER_DAY;
+	/** yyyy-MM-dd */
+	private static final int DATE_LENGTH = 10;
+
+	/**
+	 * Prints the temporal.
+	 *
+	 * @param temporal
+	 *                     the temporal to print, not null
+	 * @param buf
+	 *                     the buffer to append to, not null
+	 * @return false if the temporal is not supported by the printer and nothing
+	 *         was appended
+	 */
+	abstract boolean print(TemporalAccessor temporal, StringBuilder buf);
+
+	/**
+	 * Parses the usual form of the layout.
+	 *
+	 * @param text
+	 *                 the text to parse, not null
+	 * @return the parsed temporal, null if the text is not in the usual form
+	 * @throws DateTimeException
+	 *                               if the fields are not valid
+	 */
+	abstract TemporalAccessor parse(CharSequence text);
+
+	private static LocalDate toLocalDate(TemporalAccessor temporal) {
+		if (temporal instanceof LocalDate) {
+			return (LocalDate) temporal;
+		}
+		LocalDateTime dateTime = toLocalDateTime(temporal);
+		return dateTime == null ? null : dateTime.toLocalDate();
+	}
+
+	private static LocalDateTime toLocalDateTime(TemporalAccessor temporal) {
+		if (temporal instanceof LocalDateTime) {
+			return (LocalDateTime) temporal;
+		}
+		if (temporal instanceof OffsetDateTime) {
+			return ((OffsetDateTime) temporal).toLocalDateTime();
+		}
+		if (temporal instanceof ZonedDateTime) {
+			return ((ZonedDateTime) temporal).toLocalDateTime();
+		}
+		return null;
+	}
+
+	private static void appendDateTime(StringBuilder buf, LocalDateTime dateTime) {
+		LocalDate date = dateTime.toLocalDate();
+		appendDate(buf, date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+		buf.append('T');
+		appendTime(buf, dateTime.toLocalTime());
+	}
+
+	/**
+	 * Appends the date as {@code appendValue(YEAR, 4, 10, SignStyle.EXCEEDS_PAD)}
+	 * and two digits of the month and the day.
+	 */
+	private static void appendDate(StringBuilder buf, int year, int month, int day) {
+		if (year < 0) {
+			buf.append('-');
+		} else if (year > 9999) {
+			buf.append('+');
+		}
+		int absYear = Math.abs(year);
+		if (absYear < 1000) {
+			appendDigits(buf, absYear, 4);
+		} else {
+			buf.append(absYear);
+		}
+		buf.append('-');
+		appendTwoDigits(buf, month);
+		buf.append('-');
+		appendTwoDigits(buf, day);
+	}
+
+	/**
+	 * Appends the time with the seconds and the nano of second without the
+	 * trailing zeros.
+	 */
+	private static void appendTime(StringBuilder buf, LocalTime time) {
+		appendTwoDigits(buf, time.getHour());
+		buf.append(':');
+		appendTwoDigits(buf, time.getMinute());
+		buf.append(':');
+		appendTwoDigits(buf, time.getSecond());
+		int nano = time.getNano();
+		if (nano != 0) {
+			buf.append('.');
+			int digits = 9;
+			while (nano % 10 == 0) {
+				nano /= 10;
+				digits--;
+			}
+			appendDigits(buf, nano, digits);
+		}
+	}
+
+	/**
+	 * Appends the ISO date of the epoch day, see {@link LocalDate#ofEpochDay(long)}.
+	 */
+	private static void appendEpochDay(StringBuilder buf, long epochDay) {
+		long zeroDay = epochDay + DAYS_0000_TO_1970;
+		// find the march-based year
+		zeroDay -= 60; // adjust to 0000-03-01 so leap day is at end of four year cycle
+		long adjust = 0;
+		if (zeroDay < 0) {
+			// adjust negative years to positive for calculation
+			long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+			adjust = adjustCycles * 400;
+			zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+		}
+		long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+		long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+		if (doyEst < 0) {
+			// fix estimate
+			yearEst--;
+			doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+		}
+		yearEst += adjust; // reset any negative year
+		int marchDoy0 = (int) doyEst;
+
+		// convert march-based values back to january-based
+		int marchMonth0 = (marchDoy0 * 5 + 2) / 153;
+		int month = (marchMonth0 + 2) % 12 + 1;
+		int dom = marchDoy0 - (marchMonth0 * 306 + 5) / 10 + 1;
+		yearEst += marchMonth0 / 10;
+		appendDate(buf, (int) yearEst, month, dom);
+	}
+
+	/**
+	 * Parses the date at the start of the text.
+	 */
+	private static LocalDate parseDate(CharSequence text) {
+		int year = digits(text, 0, 4);
+		int month = digits(text, 5, 2);
+		int day = digits(text, 8, 2);
+		if (year < 0 || month < 0 || day < 0 || text.charAt(4) != '-' || text.charAt(7) != '-') {
+			return null;
+		}
+		return LocalDate.of(year, month, day);
+	}
+
+	/**
+	 * Parses the date-time at the start of the text, the time ends at the end.
+	 */
+	private static LocalDateTime parseDateTime(CharSequence text, int end) {
+		if (end <= DATE_LENGTH || !isT(text.charAt(DATE_LENGTH))) {
+			return null;
+		}
+		LocalDate date = parseDate(text);
+		LocalTime time = parseTime(text, DATE_LENGTH + 1, end);
+		return date == null || time == null ? null : LocalDateTime.of(date, time);
+	}
+
+	/**
+	 * Parses {@code HH:mm[:ss[.n]]} from the start to the end.
+	 */
+	private static LocalTime parseTime(CharSequence text, int start, int end) {
+		int length = end - start;
+		if (length < 5) {
+			return null;
+		}
+		int hour = digits(text, start, 2);
+		int minute = digits(text, start + 3, 2);
+		if (hour < 0 || minute < 0 || text.charAt(start + 2) != ':') {
+			return null;
+		}
+		if (length == 5) {
+			return LocalTime.of(hour, minute);
+		}
+		if (length < 8 || text.charAt(start + 5) != ':') {
+			return null;
+		}
+		int second = digits(text, start + 6, 2);
+		if (second < 0) {
+			return null;
+		}
+		if (length == 8) {
+			return LocalTime.of(hour, minute, second);
+		}
+		// one to nine digits of the fraction
+		int fractionDigits = length - 9;
+		if (text.charAt(start + 8) != '.' || fractionDigits < 1 || fractionDigits > 9) {
+			return null;
+		}
+		int nano = digits(text, start + 9, fractionDigits);
+		if (nano < 0) {
+			return null;
+		}
+		for (int i = fractionDigits; i < 9; i++) {
+			nano *= 10;
+		}
+		return LocalTime.of(hour, minute, second, nano);
+	}
+
+	/**
+	 * Finds the start of the offset after the date-time.
+	 *
+	 * @return the index of the offset, -1 if not found
+	 */
+	private static int findOffset(CharSequence text) {
+		// after the date and the hours and minutes
+		for (int i = DATE_LENGTH + 6; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (c == '+' || c == '-' || isZ(c)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Parses {@code Z} or {@code +HH:MM[:ss]} from the start to the end of the text.
+	 */
+	private static ZoneOffset parseOffset(CharSequence text, int start) {
+		int length = text.length() - start;
+		char sign = text.charAt(start);
+		if (length == 1) {
+			return isZ(sign) ? ZoneOffset.UTC : null;
+		}
+		if ((length != 6 && length != 9) || (sign != '+' && sign != '-') || text.charAt(start + 3) != ':') {
+			return null;
+		}
+		int hours = digits(text, start + 1, 2);
+		int minutes = digits(text, start + 4, 2);
+		int seconds = 0;
+		if (length == 9) {
+			seconds = text.charAt(start + 6) == ':' ? digits(text, start + 7, 2) : -1;
+		}
+		if (hours < 0 || minutes < 0 || seconds < 0) {
+			return null;
+		}
+		return sign == '-' ? ZoneOffset.ofHoursMinutesSeconds(-hours, -minutes, -seconds)
+				: ZoneOffset.ofHoursMinutesSeconds(hours, minutes, seconds);
+	}
+
+	/**
+	 * Gets the value of the ASCII digits.
+	 *
+	 * @return the value, -1 if a character is not a digit
+	 */
+	private static int digits(CharSequence text, int start, int count) {
+		int value = 0;
+		for (int i = start; i < start + count; i++) {
+			int digit = text.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				return -1;
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+
+	/** The formatters parse the letters case insensitive. */
+	private static boolean isT(char c) {
+		return c == 'T' || c == 't';
+	}
+
+	private static boolean isZ(char c) {
+		return c == 'Z' || c == 'z';
+	}
+
+	private static void appendTwoDigits(StringBuilder buf, int value) {
+		buf.append((char) ('0' + value / 10)).append((char) ('0' + value % 10));
+	}
+
+	/**
+	 * Appends the non negative value padded by zeros to the number of digits.
+	 */
+	private static void appendDigits(StringBuilder buf, int value, int digits) {
+		int div = 1;
+		for (int i = 1; i < digits; i++) {
+			div *= 10;
+		}
+		for (; div > 0; div /= 10) {
+			buf.append((char) ('0' + value / div % 10));
+		}
+	}
+
+}
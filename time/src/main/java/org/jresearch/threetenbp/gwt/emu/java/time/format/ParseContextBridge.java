@@ -0,0 +1,67 @@
+package org.jresearch.threetenbp.gwt.emu.java.time.format;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.format.DateTimeFormatterBuilder.CompositePrinterParser;
+import org.jresearch.threetenbp.gwt.emu.java.time.format.DateTimeParseContext.Parsed;
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQuery;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.format.DateTimeParseCursor;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.format.ParseContextAccess;
+
+/**
+ * Gives {@link DateTimeParseCursor} the access to the parse context, reused for
+ * all the attempts of the cursor.
+ * <p>
+ * Registered by the static initializer of {@link DateTimeFormatter}.
+ *
+ * <h3>Specification for implementors</h3> This class is mutable and not
+ * thread-safe.
+ */
+final class ParseContextBridge extends ParseContextAccess {
+
+	/**
+	 * The formatter, not null.
+	 */
+	private final DateTimeFormatter formatter;
+	/**
+	 * The printer-parser of the formatter, not null.
+	 */
+	private final CompositePrinterParser printerParser;
+	/**
+	 * The context reused for all the attempts, not null.
+	 */
+	private final DateTimeParseContext context;
+	/**
+	 * True if the parsed data of the context was handed out and must not be
+	 * cleared.
+	 */
+	private boolean handedOut;
+
+	private ParseContextBridge(DateTimeFormatter formatter) {
+		this.formatter = formatter;
+		this.printerParser = formatter.toPrinterParser(false);
+		this.context = new DateTimeParseContext(formatter);
+	}
+
+	static void register() {
+		ParseContextAccess.register(ParseContextBridge::new);
+	}
+
+	@Override
+	public int parse(CharSequence text, int index) {
+		context.reset(!handedOut);
+		handedOut = false;
+		return printerParser.parse(context, text, index);
+	}
+
+	@Override
+	public TemporalAccessor getParsed() {
+		handedOut = true;
+		return context.toParsed();
+	}
+
+	@Override
+	public <T> T resolve(TemporalAccessor parsed, TemporalQuery<T> query) {
+		return ((Parsed) parsed).toBuilder().resolve(formatter.getResolverStyle(), formatter.getResolverFields()).build(query);
+	}
+
+}
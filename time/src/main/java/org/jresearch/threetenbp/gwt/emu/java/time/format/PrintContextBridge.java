@@ -0,0 +1,46 @@
+package org.jresearch.threetenbp.gwt.emu.java.time.format;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.format.BulkFormatter;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.format.PrintContextAccess;
+
+/**
+ * Gives {@link BulkFormatter} the access to the print context, reused for all
+ * the temporals.
+ * <p>
+ * Registered by the static initializer of {@link DateTimeFormatter}.
+ *
+ * <h3>Specification for implementors</h3> This class is mutable and not
+ * thread-safe.
+ */
+final class PrintContextBridge extends PrintContextAccess {
+
+	/**
+	 * The formatter, not null.
+	 */
+	private final DateTimeFormatter formatter;
+	/**
+	 * The context reused for all the temporals, not null.
+	 */
+	private final DateTimePrintContext context;
+	/**
+	 * True if the hand written ISO layout of the formatter can be used.
+	 */
+	private final boolean isoLayoutUsable;
+
+	private PrintContextBridge(DateTimeFormatter formatter) {
+		this.formatter = formatter;
+		this.context = new DateTimePrintContext(formatter);
+		this.isoLayoutUsable = formatter.isIsoLayoutUsable();
+	}
+
+	static void register() {
+		PrintContextAccess.register(PrintContextBridge::new);
+	}
+
+	@Override
+	public void print(TemporalAccessor temporal, StringBuilder buf) {
+		formatter.print(temporal, context, isoLayoutUsable, buf);
+	}
+
+}
@@ -34,10 +34,8 @@ package org.jresearch.threetenbp.gwt.emu.java.time.format;
 import java.text.SimpleDateFormat;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Stream;
 
 import org.jresearch.gwt.time.apt.base.Bases;
 import org.jresearch.gwt.time.apt.base.Chrono;
@@ -61,8 +59,16 @@ final class SimpleDateTimeFormatStyleProvider extends DateTimeFormatStyleProvide
     // TODO: Better implementation based on CLDR
 
     /** Cache of formatters. */
-    private static final ConcurrentMap<String, Object> FORMATTER_CACHE =
-                        new ConcurrentHashMap<String, Object>(16, 0.75f);
+    private static final ConcurrentMap<FormatterKey, Object> FORMATTER_CACHE =
+                        new ConcurrentHashMap<FormatterKey, Object>(16, 0.75f);
+
+	// GWT Specific
+	/** Kind of the pattern indexes. */
+	private static final int DATE = 0;
+	private static final int TIME = 1;
+	private static final int DATE_TIME = 2;
+	/** Pattern indexes by the kind and the style, lazily created. */
+	private static final PatternIndex[] PATTERN_INDEXES = new PatternIndex[3 * FormatStyle.values().length];
 
     @Override
 	// GWT Specific
@@ -75,7 +81,7 @@ final class SimpleDateTimeFormatStyleProvider extends DateTimeFormatStyleProvide
         if (dateStyle == null && timeStyle == null) {
             throw new IllegalArgumentException("Date and Time style must not both be null");
         }
-        String key = chrono.getId() + '|' + locale.toString() + '|' + dateStyle + timeStyle;
+        FormatterKey key = new FormatterKey(chrono.getId(), locale, dateStyle, timeStyle);
         Object cached = FORMATTER_CACHE.get(key);
         if (cached != null) {
             if (cached.equals("")) {
@@ -88,23 +94,19 @@ final class SimpleDateTimeFormatStyleProvider extends DateTimeFormatStyleProvide
 		String pattern = null;
 		Chrono c = Bases.ofJavaTime(chrono.getId()).orElse(Chrono.ISO);
 		if (dateStyle != null) {
-			Map<String, PatternCoordinates[]> dateMap = getDateMap(dateStyle);
-			String datePattern = getPattern(dateMap, c, locale);
+			String datePattern = getPattern(DATE, dateStyle, c, locale);
 			if (timeStyle != null) {
-				Map<String, PatternCoordinates[]> timeMap = getTimeMap(timeStyle);
-				String timePattern = getPattern(timeMap, c, locale);
+				String timePattern = getPattern(TIME, timeStyle, c, locale);
 
 				FormatStyle dateTimeStyle = FormatStyle.values()[Math.min(dateStyle.ordinal(), timeStyle.ordinal())];
-				Map<String, PatternCoordinates[]> dateTimeMap = getDateTimeMap(dateTimeStyle);
-				String dateTimePattern = getPattern(dateTimeMap, c, locale);
+				String dateTimePattern = getPattern(DATE_TIME, dateTimeStyle, c, locale);
 
-				pattern = substitute(dateTimePattern, datePattern, timePattern);
+				pattern = datePattern == null || timePattern == null || dateTimePattern == null ? null : substitute(dateTimePattern, datePattern, timePattern);
 			} else {
 				pattern = datePattern;
 			}
 		} else {
-			Map<String, PatternCoordinates[]> timeMap = getTimeMap(timeStyle);
-			pattern = getPattern(timeMap, c, locale);
+			pattern = getPattern(TIME, timeStyle, c, locale);
 		}
 		if (pattern != null) {
 			DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter(locale);
@@ -119,16 +121,25 @@ final class SimpleDateTimeFormatStyleProvider extends DateTimeFormatStyleProvide
 		return dateTimePattern.replace("{1}", datePattern).replace("{0}", timePattern).replace("'", "");
 	}
 
-	private static String getPattern(Map<String, PatternCoordinates[]> patterns, Chrono chrono, Locale locale) {
-		return patterns.entrySet().stream().filter(e -> isFor(e, chrono, locale)).findAny().map(Entry::getKey).orElseGet(() -> getPattern(patterns, chrono, up(locale)));
-	}
-
-	private static boolean isFor(Entry<String, PatternCoordinates[]> e, Chrono chrono, Locale locale) {
-		return Stream.of(e.getValue()).anyMatch(pc -> isFor(pc, chrono, locale));
+	private static String getPattern(int kind, FormatStyle style, Chrono chrono, Locale locale) {
+		int index = kind * FormatStyle.values().length + style.ordinal();
+		PatternIndex patternIndex = PATTERN_INDEXES[index];
+		if (patternIndex == null) {
+			patternIndex = new PatternIndex(getMap(kind, style));
+			PATTERN_INDEXES[index] = patternIndex;
+		}
+		return patternIndex.getPattern(chrono, locale);
 	}
 
-	private static boolean isFor(PatternCoordinates pc, Chrono chrono, Locale locale) {
-		return chrono.equals(pc.chrono()) && locale.equals(pc.locale());
+	private static Map<String, PatternCoordinates[]> getMap(int kind, FormatStyle style) {
+		switch (kind) {
+		case DATE:
+			return getDateMap(style);
+		case TIME:
+			return getTimeMap(style);
+		default:
+			return getDateTimeMap(style);
+		}
 	}
 
 	private static Locale up(Locale locale) {
@@ -197,4 +208,108 @@ final class SimpleDateTimeFormatStyleProvider extends DateTimeFormatStyleProvide
         return style.ordinal();  // indices happen to align
     }
 
+	// GWT Specific
+	/**
+	 * The CLDR patterns of a kind and a style inverted to the patterns by the
+	 * chronology and the locale. The patterns found by the fallback to the
+	 * parent locales are memoized for the requested locale.
+	 */
+	private static final class PatternIndex {
+
+		private final ConcurrentMap<PatternKey, String> patterns = new ConcurrentHashMap<PatternKey, String>();
+
+		PatternIndex(Map<String, PatternCoordinates[]> patternMap) {
+			for (Map.Entry<String, PatternCoordinates[]> entry : patternMap.entrySet()) {
+				for (PatternCoordinates pc : entry.getValue()) {
+					patterns.putIfAbsent(new PatternKey(pc.chrono(), pc.locale()), entry.getKey());
+				}
+			}
+		}
+
+		/**
+		 * @return the pattern for the locale or its nearest parent, null if
+		 *         there is no one even for the root locale
+		 */
+		String getPattern(Chrono chrono, Locale locale) {
+			PatternKey key = new PatternKey(chrono, locale);
+			String pattern = patterns.get(key);
+			if (pattern == null && !Locale.ROOT.equals(locale)) {
+				pattern = getPattern(chrono, up(locale));
+				if (pattern != null) {
+					patterns.putIfAbsent(key, pattern);
+				}
+			}
+			return pattern;
+		}
+
+	}
+
+	// GWT Specific
+	/** Key of the pattern index. */
+	private static final class PatternKey {
+
+		private final Chrono chrono;
+		private final Locale locale;
+
+		PatternKey(Chrono chrono, Locale locale) {
+			this.chrono = chrono;
+			this.locale = locale;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj instanceof PatternKey) {
+				PatternKey other = (PatternKey) obj;
+				return chrono == other.chrono && locale.equals(other.locale);
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return chrono.hashCode() * 31 + locale.hashCode();
+		}
+
+	}
+
+	// GWT Specific
+	/** Key of the formatter cache. */
+	private static final class FormatterKey {
+
+		private final String chronoId;
+		private final Locale locale;
+		private final FormatStyle dateStyle;
+		private final FormatStyle timeStyle;
+
+		FormatterKey(String chronoId, Locale locale, FormatStyle dateStyle, FormatStyle timeStyle) {
+			this.chronoId = chronoId;
+			this.locale = locale;
+			this.dateStyle = dateStyle;
+			this.timeStyle = timeStyle;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj instanceof FormatterKey) {
+				FormatterKey other = (FormatterKey) obj;
+				return chronoId.equals(other.chronoId) && locale.equals(other.locale) && dateStyle == other.dateStyle && timeStyle == other.timeStyle;
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			int hash = chronoId.hashCode() * 31 + locale.hashCode();
+			hash = hash * 31 + (dateStyle == null ? 0 : dateStyle.ordinal() + 1);
+			return hash * 31 + (timeStyle == null ? 0 : timeStyle.ordinal() + 1);
+		}
+
+	}
+
 }
@@ -36,15 +36,16 @@ import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.DA
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.ERA;
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.MONTH_OF_YEAR;
 
-import org.jresearch.threetenbp.gwt.emu.java.time.Month;
 import org.jresearch.threetenbp.gwt.emu.java.time.chrono.IsoEra;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.IsoFields;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalField;
 import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.Support;
+import org.jresearch.threetenbp.gwt.time.client.LocaleTexts;
 
 //import java.text.DateFormatSymbols;
 import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
+import java.util.Arrays;
 //import java.util.Calendar;
 import java.util.Collections;
 import java.util.Comparator;
@@ -83,10 +84,6 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
         }
     };
 
-	// GWT specific
-	private static final int AM = 0;
-	private static final int PM = 1;
-
     /** Cache. */
     private final ConcurrentMap<Entry<TemporalField, Locale>, Object> cache =
             new ConcurrentHashMap<Entry<TemporalField, Locale>, Object>(16, 0.75f);
@@ -111,6 +108,13 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
         return null;
     }
 
+	// GWT specific
+    @Override
+    LocaleStore getStore(TemporalField field, Locale locale) {
+        Object store = findStore(field, locale);
+        return store instanceof LocaleStore ? (LocaleStore) store : null;
+    }
+
     //-----------------------------------------------------------------------
     private Object findStore(TemporalField field, Locale locale) {
         Entry<TemporalField, Locale> key = createEntry(field, locale);
@@ -125,234 +129,19 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
 
 	// GWT specific
     private Object createStore(TemporalField field, Locale locale) {
-        if (field == MONTH_OF_YEAR) {
-            Map<TextStyle, Map<Long, String>> styleMap = new HashMap<TextStyle, Map<Long,String>>();
-            Long f1 = 1L;
-            Long f2 = 2L;
-            Long f3 = 3L;
-            Long f4 = 4L;
-            Long f5 = 5L;
-            Long f6 = 6L;
-            Long f7 = 7L;
-            Long f8 = 8L;
-            Long f9 = 9L;
-            Long f10 = 10L;
-            Long f11 = 11L;
-            Long f12 = 12L;
-			String[] array = Support.displayMonths("long", false, locale.toLanguageTag());
-            Map<Long, String> map = new HashMap<Long, String>();
-			map.put(f1, array[Month.JANUARY.ordinal()]);
-			map.put(f2, array[Month.FEBRUARY.ordinal()]);
-			map.put(f3, array[Month.MARCH.ordinal()]);
-			map.put(f4, array[Month.APRIL.ordinal()]);
-			map.put(f5, array[Month.MAY.ordinal()]);
-			map.put(f6, array[Month.JUNE.ordinal()]);
-			map.put(f7, array[Month.JULY.ordinal()]);
-			map.put(f8, array[Month.AUGUST.ordinal()]);
-			map.put(f9, array[Month.SEPTEMBER.ordinal()]);
-			map.put(f10, array[Month.OCTOBER.ordinal()]);
-			map.put(f11, array[Month.NOVEMBER.ordinal()]);
-			map.put(f12, array[Month.DECEMBER.ordinal()]);
-            styleMap.put(TextStyle.FULL, map);
-
-			array = Support.displayMonths("long", true, locale.toLanguageTag());
-			map = new HashMap<Long, String>();
-			map.put(f1, array[Month.JANUARY.ordinal()]);
-			map.put(f2, array[Month.FEBRUARY.ordinal()]);
-			map.put(f3, array[Month.MARCH.ordinal()]);
-			map.put(f4, array[Month.APRIL.ordinal()]);
-			map.put(f5, array[Month.MAY.ordinal()]);
-			map.put(f6, array[Month.JUNE.ordinal()]);
-			map.put(f7, array[Month.JULY.ordinal()]);
-			map.put(f8, array[Month.AUGUST.ordinal()]);
-			map.put(f9, array[Month.SEPTEMBER.ordinal()]);
-			map.put(f10, array[Month.OCTOBER.ordinal()]);
-			map.put(f11, array[Month.NOVEMBER.ordinal()]);
-			map.put(f12, array[Month.DECEMBER.ordinal()]);
-			styleMap.put(TextStyle.FULL_STANDALONE, map);
-
-			array = Support.displayMonths("short", false, locale.toLanguageTag());
-			map = new HashMap<Long, String>();
-			map.put(f1, array[Month.JANUARY.ordinal()]);
-			map.put(f2, array[Month.FEBRUARY.ordinal()]);
-			map.put(f3, array[Month.MARCH.ordinal()]);
-			map.put(f4, array[Month.APRIL.ordinal()]);
-			map.put(f5, array[Month.MAY.ordinal()]);
-			map.put(f6, array[Month.JUNE.ordinal()]);
-			map.put(f7, array[Month.JULY.ordinal()]);
-			map.put(f8, array[Month.AUGUST.ordinal()]);
-			map.put(f9, array[Month.SEPTEMBER.ordinal()]);
-			map.put(f10, array[Month.OCTOBER.ordinal()]);
-			map.put(f11, array[Month.NOVEMBER.ordinal()]);
-			map.put(f12, array[Month.DECEMBER.ordinal()]);
-			styleMap.put(TextStyle.SHORT, map);
-
-			array = Support.displayMonths("short", true, locale.toLanguageTag());
-            map = new HashMap<Long, String>();
-			map.put(f1, array[Month.JANUARY.ordinal()]);
-			map.put(f2, array[Month.FEBRUARY.ordinal()]);
-			map.put(f3, array[Month.MARCH.ordinal()]);
-			map.put(f4, array[Month.APRIL.ordinal()]);
-			map.put(f5, array[Month.MAY.ordinal()]);
-			map.put(f6, array[Month.JUNE.ordinal()]);
-			map.put(f7, array[Month.JULY.ordinal()]);
-			map.put(f8, array[Month.AUGUST.ordinal()]);
-			map.put(f9, array[Month.SEPTEMBER.ordinal()]);
-			map.put(f10, array[Month.OCTOBER.ordinal()]);
-			map.put(f11, array[Month.NOVEMBER.ordinal()]);
-			map.put(f12, array[Month.DECEMBER.ordinal()]);
-			styleMap.put(TextStyle.SHORT_STANDALONE, map);
-
-			array = Support.displayMonths("narrow", false, locale.toLanguageTag());
-			map = new HashMap<Long, String>();
-			map.put(f1, array[Month.JANUARY.ordinal()]);
-			map.put(f2, array[Month.FEBRUARY.ordinal()]);
-			map.put(f3, array[Month.MARCH.ordinal()]);
-			map.put(f4, array[Month.APRIL.ordinal()]);
-			map.put(f5, array[Month.MAY.ordinal()]);
-			map.put(f6, array[Month.JUNE.ordinal()]);
-			map.put(f7, array[Month.JULY.ordinal()]);
-			map.put(f8, array[Month.AUGUST.ordinal()]);
-			map.put(f9, array[Month.SEPTEMBER.ordinal()]);
-			map.put(f10, array[Month.OCTOBER.ordinal()]);
-			map.put(f11, array[Month.NOVEMBER.ordinal()]);
-			map.put(f12, array[Month.DECEMBER.ordinal()]);
-            styleMap.put(TextStyle.NARROW, map);
-
-			array = Support.displayMonths("narrow", true, locale.toLanguageTag());
-            map = new HashMap<Long, String>();
-			map.put(f1, array[Month.JANUARY.ordinal()]);
-			map.put(f2, array[Month.FEBRUARY.ordinal()]);
-			map.put(f3, array[Month.MARCH.ordinal()]);
-			map.put(f4, array[Month.APRIL.ordinal()]);
-			map.put(f5, array[Month.MAY.ordinal()]);
-			map.put(f6, array[Month.JUNE.ordinal()]);
-			map.put(f7, array[Month.JULY.ordinal()]);
-			map.put(f8, array[Month.AUGUST.ordinal()]);
-			map.put(f9, array[Month.SEPTEMBER.ordinal()]);
-			map.put(f10, array[Month.OCTOBER.ordinal()]);
-			map.put(f11, array[Month.NOVEMBER.ordinal()]);
-			map.put(f12, array[Month.DECEMBER.ordinal()]);
-			styleMap.put(TextStyle.NARROW_STANDALONE, map);
-            return createLocaleStore(styleMap);
-        }
-        if (field == DAY_OF_WEEK) {
-            Map<TextStyle, Map<Long, String>> styleMap = new HashMap<TextStyle, Map<Long,String>>();
-            Long f1 = 1L;
-            Long f2 = 2L;
-            Long f3 = 3L;
-            Long f4 = 4L;
-            Long f5 = 5L;
-            Long f6 = 6L;
-            Long f7 = 7L;
-
-			String[] array = Support.displayWeekdays("long", false, locale.toLanguageTag());
-			LOGGER.debug("weekdays, long, locale {}, formated {}", locale, array);
-            Map<Long, String> map = new HashMap<Long, String>();
-			map.put(f1, array[0]);
-			map.put(f2, array[1]);
-			map.put(f3, array[2]);
-			map.put(f4, array[3]);
-			map.put(f5, array[4]);
-			map.put(f6, array[5]);
-			map.put(f7, array[6]);
-            styleMap.put(TextStyle.FULL, map);
-
-			array = Support.displayWeekdays("long", true, locale.toLanguageTag());
-			LOGGER.debug("weekdays, long, locale {}, standalone {}", locale, array);
-			map = new HashMap<Long, String>();
-			map.put(f1, array[0]);
-			map.put(f2, array[1]);
-			map.put(f3, array[2]);
-			map.put(f4, array[3]);
-			map.put(f5, array[4]);
-			map.put(f6, array[5]);
-			map.put(f7, array[6]);
-			styleMap.put(TextStyle.FULL_STANDALONE, map);
-
-			array = Support.displayWeekdays("short", false, locale.toLanguageTag());
-            map = new HashMap<Long, String>();
-			map.put(f1, array[0]);
-			map.put(f2, array[1]);
-			map.put(f3, array[2]);
-			map.put(f4, array[3]);
-			map.put(f5, array[4]);
-			map.put(f6, array[5]);
-			map.put(f7, array[6]);
-			styleMap.put(TextStyle.SHORT, map);
-
-			array = Support.displayWeekdays("short", true, locale.toLanguageTag());
-			map = new HashMap<Long, String>();
-			map.put(f1, array[0]);
-			map.put(f2, array[1]);
-			map.put(f3, array[2]);
-			map.put(f4, array[3]);
-			map.put(f5, array[4]);
-			map.put(f6, array[5]);
-			map.put(f7, array[6]);
-			styleMap.put(TextStyle.SHORT_STANDALONE, map);
-
-			array = Support.displayWeekdays("narrow", false, locale.toLanguageTag());
-            map = new HashMap<Long, String>();
-			map.put(f1, array[0]);
-			map.put(f2, array[1]);
-			map.put(f3, array[2]);
-			map.put(f4, array[3]);
-			map.put(f5, array[4]);
-			map.put(f6, array[5]);
-			map.put(f7, array[6]);
-			styleMap.put(TextStyle.NARROW, map);
-
-			array = Support.displayWeekdays("narrow", true, locale.toLanguageTag());
-			map = new HashMap<Long, String>();
-			map.put(f1, array[0]);
-			map.put(f2, array[1]);
-			map.put(f3, array[2]);
-			map.put(f4, array[3]);
-			map.put(f5, array[4]);
-			map.put(f6, array[5]);
-			map.put(f7, array[6]);
-			styleMap.put(TextStyle.NARROW_STANDALONE, map);
-            return createLocaleStore(styleMap);
-        }
-        if (field == AMPM_OF_DAY) {
-            Map<TextStyle, Map<Long, String>> styleMap = new HashMap<TextStyle, Map<Long,String>>();
-
-			String[] array = Support.displayAmpm("full", locale.toLanguageTag());
-            Map<Long, String> map = new HashMap<Long, String>();
-			map.put(0L, array[AM]);
-			map.put(1L, array[PM]);
-            styleMap.put(TextStyle.FULL, map);
-
-			array = Support.displayAmpm("short", locale.toLanguageTag());
-			map = new HashMap<Long, String>();
-			map.put(0L, array[AM]);
-			map.put(1L, array[PM]);
-			styleMap.put(TextStyle.SHORT, map);
-
-            return createLocaleStore(styleMap);
-        }
-        if (field == ERA) {
-            Map<TextStyle, Map<Long, String>> styleMap = new HashMap<TextStyle, Map<Long,String>>();
-
-			String[] array = Support.displayEras("long", locale.toLanguageTag());
-            Map<Long, String> map = new HashMap<Long, String>();
-			map.put(0L, array[IsoEra.BCE.getValue()]);
-			map.put(1L, array[IsoEra.CE.getValue()]);
-			styleMap.put(TextStyle.FULL, map);
-
-			array = Support.displayEras("short", locale.toLanguageTag());
-			map = new HashMap<Long, String>();
-			map.put(0L, array[IsoEra.BCE.getValue()]);
-			map.put(1L, array[IsoEra.CE.getValue()]);
-            styleMap.put(TextStyle.SHORT, map);
-
-			array = Support.displayEras("narrow", locale.toLanguageTag());
-            map = new HashMap<Long, String>();
-			map.put(0L, array[IsoEra.BCE.getValue()]);
-			map.put(1L, array[IsoEra.CE.getValue()]);
-            styleMap.put(TextStyle.NARROW, map);
-            return createLocaleStore(styleMap);
+        if (field == MONTH_OF_YEAR || field == DAY_OF_WEEK || field == AMPM_OF_DAY || field == ERA) {
+            // all the texts of the locale come in one call, the other stores are cached as well
+            LocaleTexts texts = Support.displayTexts(locale.toLanguageTag());
+            LOGGER.debug("texts for locale {}", locale);
+            LocaleStore months = createLocaleStore(texts.months, 1);
+            LocaleStore weekdays = createLocaleStore(texts.weekdays, 1);
+            LocaleStore dayPeriods = createLocaleStore(texts.dayPeriods, 0);
+            LocaleStore eras = createLocaleStore(texts.eras, IsoEra.BCE.getValue());
+            cache.putIfAbsent(createEntry(MONTH_OF_YEAR, locale), months);
+            cache.putIfAbsent(createEntry(DAY_OF_WEEK, locale), weekdays);
+            cache.putIfAbsent(createEntry(AMPM_OF_DAY, locale), dayPeriods);
+            cache.putIfAbsent(createEntry(ERA, locale), eras);
+            return field == MONTH_OF_YEAR ? months : field == DAY_OF_WEEK ? weekdays : field == AMPM_OF_DAY ? dayPeriods : eras;
         }
 		// GWT hard code English quarter text TODO
         if (field == IsoFields.QUARTER_OF_YEAR) {
@@ -386,6 +175,31 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
         return new SimpleImmutableEntry<A, B>(text, field);
     }
 
+    //-----------------------------------------------------------------------
+    /**
+     * Creates the store from the texts by the style.
+     *
+     * @param styleTexts  the texts indexed by the style ordinal and then by the value, a missing style is null, not null
+     * @param firstValue  the value of the first text
+     * @return the store, not null
+     */
+	// GWT specific
+    private static LocaleStore createLocaleStore(String[][] styleTexts, long firstValue) {
+        Map<TextStyle, Map<Long, String>> styleMap = new HashMap<TextStyle, Map<Long,String>>();
+        TextStyle[] styles = TextStyle.values();
+        for (int i = 0; i < styles.length && i < styleTexts.length; i++) {
+            String[] texts = styleTexts[i];
+            if (texts != null) {
+                Map<Long, String> map = new HashMap<Long, String>();
+                for (int j = 0; j < texts.length; j++) {
+                    map.put(firstValue + j, texts[j]);
+                }
+                styleMap.put(styles[i], map);
+            }
+        }
+        return createLocaleStore(styleMap);
+    }
+
     //-----------------------------------------------------------------------
     private static LocaleStore createLocaleStore(Map<TextStyle, Map<Long, String>> valueTextMap) {
 		if (valueTextMap.containsKey(TextStyle.FULL) && valueTextMap.containsKey(TextStyle.FULL_STANDALONE) == false) {
@@ -412,13 +226,37 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
      */
     static final class LocaleStore {
         /**
-         * Map of value to text.
+         * The maximum range of the values stored in the arrays.
+         */
+        // GWT specific
+        private static final int MAX_ARRAY_RANGE = 256;
+        /**
+         * Map of value to text, used if the values do not fit the arrays.
          */
         private final Map<TextStyle, Map<Long, String>> valueTextMap;
+        /**
+         * The texts by the style ordinal and then by the value minus {@link #minValue},
+         * null if the values do not fit the arrays.
+         */
+        // GWT specific
+        private final String[][] texts;
+        /**
+         * The minimum value of the texts.
+         */
+        // GWT specific
+        private final long minValue;
         /**
          * Parsable data.
          */
         private final Map<TextStyle, List<Entry<String, Long>>> parsable;
+        /**
+         * The prefix trees of the parsable texts, lazily created. Indexed by the
+         * style ordinal (or the number of the styles for all the parsable texts)
+         * doubled, plus one for the case insensitive tree.
+         */
+        // GWT specific
+        @SuppressWarnings("unchecked")
+        private final TextTree<Long>[] trees = new TextTree[(TextStyle.values().length + 1) * 2];
 
         //-----------------------------------------------------------------------
         /**
@@ -446,6 +284,31 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
             }
             Collections.sort(allList, COMPARATOR);
             this.parsable = map;
+
+            // GWT specific - the texts by the style ordinal and the value
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (Map<Long, String> styleMap : valueTextMap.values()) {
+                for (Long value : styleMap.keySet()) {
+                    min = Math.min(min, value);
+                    max = Math.max(max, value);
+                }
+            }
+            if (min <= max && max - min >= 0 && max - min < MAX_ARRAY_RANGE) {
+                String[][] array = new String[TextStyle.values().length][];
+                for (Map.Entry<TextStyle, Map<Long, String>> entry : valueTextMap.entrySet()) {
+                    String[] styleTexts = new String[(int) (max - min) + 1];
+                    for (Map.Entry<Long, String> valueText : entry.getValue().entrySet()) {
+                        styleTexts[(int) (valueText.getKey() - min)] = valueText.getValue();
+                    }
+                    array[entry.getKey().ordinal()] = styleTexts;
+                }
+                this.texts = array;
+                this.minValue = min;
+            } else {
+                this.texts = null;
+                this.minValue = 0;
+            }
         }
 
         //-----------------------------------------------------------------------
@@ -458,6 +321,12 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
          * @return the text for the field value, null if no text found
          */
         String getText(long value, TextStyle style) {
+            // GWT specific
+            if (texts != null) {
+                String[] styleTexts = texts[style.ordinal()];
+                long index = value - minValue;
+                return styleTexts != null && index >= 0 && index < styleTexts.length ? styleTexts[(int) index] : null;
+            }
             Map<Long, String> map = valueTextMap.get(style);
             return map != null ? map.get(value) : null;
         }
@@ -475,6 +344,148 @@ final class SimpleDateTimeTextProvider extends DateTimeTextProvider {
             List<Entry<String, Long>> list = parsable.get(style);
             return list != null ? list.iterator() : null;
         }
+
+        /**
+         * Gets the prefix tree of the texts for the specified style for the purpose of parsing.
+         * <p>
+         * The tree finds the same text as the first matching one of
+         * {@link #getTextIterator(TextStyle)}.
+         *
+         * @param style  the style to get text for, null for all parsable text
+         * @param caseSensitive  true to match the case
+         * @return the tree, null if the style is not parsable
+         */
+        // GWT specific
+        TextTree<Long> getTextTree(TextStyle style, boolean caseSensitive) {
+            int index = (style == null ? TextStyle.values().length : style.ordinal()) * 2 + (caseSensitive ? 0 : 1);
+            TextTree<Long> tree = trees[index];
+            if (tree == null) {
+                List<Entry<String, Long>> list = parsable.get(style);
+                if (list == null) {
+                    return null;
+                }
+                tree = new TextTree<Long>(caseSensitive);
+                for (Entry<String, Long> entry : list) {
+                    tree.add(entry.getKey(), entry.getValue());
+                }
+                trees[index] = tree;
+            }
+            return tree;
+        }
+    }
+
+    //-----------------------------------------------------------------------
+    /**
+     * Prefix tree of the texts, a node per character, used for the texts of the
+     * fields and for the zone names.
+     * <p>
+     * The case insensitive tree keys the characters folded to the lower case of
+     * the upper case. The first added text wins if the texts are equal (ignoring
+     * case if not case sensitive), so the texts are added in the order of the
+     * preference, the texts of a field in the order of the parsing iterator.
+     * <p>
+     * This class is mutable while it is built and is not thread-safe.
+     *
+     * @param <V> the type of the value of a text
+     */
+    // GWT specific
+    static final class TextTree<V> {
+        private static final char[] NO_KEYS = new char[0];
+        private static final TextTree<?>[] NO_CHILDREN = new TextTree<?>[0];
+
+        /**
+         * True to match the case.
+         */
+        private final boolean caseSensitive;
+        /**
+         * The characters of the children, the first {@link #size} are used.
+         */
+        private char[] keys = NO_KEYS;
+        /**
+         * The children by the index of the character.
+         */
+        @SuppressWarnings("unchecked")
+        private TextTree<V>[] children = (TextTree<V>[]) NO_CHILDREN;
+        /**
+         * The number of the children.
+         */
+        private int size;
+        /**
+         * The value of the text ending at this node, null if none.
+         */
+        V value;
+        /**
+         * The length of the text ending at this node.
+         */
+        int length;
+
+        TextTree(boolean caseSensitive) {
+            this.caseSensitive = caseSensitive;
+        }
+
+        /**
+         * Adds the text, keeps the value of an equal text added before.
+         *
+         * @param text  the text, not null
+         * @param textValue  the value of the text, not null
+         */
+        void add(String text, V textValue) {
+            TextTree<V> node = this;
+            for (int i = 0; i < text.length(); i++) {
+                char c = key(text.charAt(i));
+                TextTree<V> child = node.child(c);
+                if (child == null) {
+                    if (node.size == node.keys.length) {
+                        int capacity = Math.max(4, node.size * 2);
+                        node.keys = Arrays.copyOf(node.keys, capacity);
+                        node.children = Arrays.copyOf(node.children, capacity);
+                    }
+                    child = new TextTree<V>(caseSensitive);
+                    node.keys[node.size] = c;
+                    node.children[node.size++] = child;
+                }
+                node = child;
+            }
+            if (node.value == null) {
+                node.value = textValue;
+                node.length = text.length();
+            }
+        }
+
+        /**
+         * Finds the longest text at the position.
+         *
+         * @param parseText  the text to parse, not null
+         * @param position  the position to match the texts from
+         * @return the node of the text, null if no text matches
+         */
+        TextTree<V> match(CharSequence parseText, int position) {
+            TextTree<V> best = null;
+            TextTree<V> node = this;
+            for (int pos = position; node != null; pos++) {
+                if (node.value != null) {
+                    best = node;
+                }
+                if (pos >= parseText.length()) {
+                    break;
+                }
+                node = node.child(key(parseText.charAt(pos)));
+            }
+            return best;
+        }
+
+        private TextTree<V> child(char c) {
+            for (int i = 0; i < size; i++) {
+                if (keys[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private char key(char c) {
+            return caseSensitive ? c : Character.toLowerCase(Character.toUpperCase(c));
+        }
     }
 
 }
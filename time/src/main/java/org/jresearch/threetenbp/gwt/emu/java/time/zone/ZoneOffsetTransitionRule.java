@@ -66,6 +66,10 @@ public final class ZoneOffsetTransitionRule implements Serializable {
      * Serialization version.
      */
     private static final long serialVersionUID = 6889046316657758795L;
+    /**
+     * The number of seconds per day.
+     */
+    private static final int SECS_PER_DAY = 86400;
 
     /**
      * The month of the month-day of the first day of the cutover week.
@@ -418,6 +422,71 @@ public final class ZoneOffsetTransitionRule implements Serializable {
         return new ZoneOffsetTransition(transition, offsetBefore, offsetAfter);
     }
 
+    /**
+     * Creates a transition instance for the specified year and returns its epoch second.
+     * <p>
+     * This is the allocation free equivalent of {@code createTransition(year).toEpochSecond()}.
+     *
+     * @param year  the year to create a transition for, not null
+     * @return the epoch second of the transition
+     */
+    // GWT specific
+    public long createTransitionEpochSecond(int year) {
+        boolean leapYear = IsoChronology.INSTANCE.isLeapYear(year);
+        int day = (dom < 0 ? month.length(leapYear) + 1 + dom : dom);
+        long epochDay = toEpochDay(year, month.getValue(), day, leapYear);
+        if (dow != null) {
+            long dayOfWeek0 = Math.floorMod(epochDay + 3, 7L);
+            long dowDiff = dow.getValue() - 1 - dayOfWeek0;
+            epochDay += (dom < 0 ? -Math.floorMod(-dowDiff, 7L) : Math.floorMod(dowDiff, 7L));
+        }
+        long localSecond = (epochDay + adjustDays) * SECS_PER_DAY + time.toSecondOfDay();
+        switch (timeDefinition) {
+            case UTC:
+                return localSecond;
+            case STANDARD:
+                return localSecond - standardOffset.getTotalSeconds();
+            default:  // WALL
+                return localSecond - offsetBefore.getTotalSeconds();
+        }
+    }
+
+    /**
+     * Gets the epoch day of the specified date.
+     * <p>
+     * This is the allocation free equivalent of {@code LocalDate.of(year, month, day).toEpochDay()}
+     * for a valid date.
+     *
+     * @param year  the year
+     * @param month  the month-of-year, from 1 to 12
+     * @param day  the day-of-month, from 1 to 31
+     * @return the epoch day
+     */
+    // GWT specific
+    public static long toEpochDay(int year, int month, int day) {
+        return toEpochDay(year, month, day, IsoChronology.INSTANCE.isLeapYear(year));
+    }
+
+    // GWT specific - LocalDate.toEpochDay() without the instance
+    private static long toEpochDay(long y, long m, int day, boolean leapYear) {
+        long total = 0;
+        total += 365 * y;
+        if (y >= 0) {
+            total += (y + 3) / 4 - (y + 99) / 100 + (y + 399) / 400;
+        } else {
+            total -= y / -4 - y / -100 + y / -400;
+        }
+        total += ((367 * m - 362) / 12);
+        total += day - 1;
+        if (m > 2) {
+            total--;
+            if (leapYear == false) {
+                total--;
+            }
+        }
+        return total - LocalDate.DAYS_0000_TO_1970;
+    }
+
     //-----------------------------------------------------------------------
     /**
      * Checks if this object equals another.
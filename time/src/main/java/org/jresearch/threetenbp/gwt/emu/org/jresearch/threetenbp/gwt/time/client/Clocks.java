@@ -0,0 +1,117 @@
+package org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client;
+
+import java.util.Objects;
+
+import org.jresearch.gwt.tool.emu.apt.annotation.Wrap;
+import org.jresearch.threetenbp.gwt.emu.java.time.Clock;
+import org.jresearch.threetenbp.gwt.emu.java.time.Duration;
+import org.jresearch.threetenbp.gwt.emu.java.time.ZoneId;
+
+/**
+ * Factories of the browser specific clocks.
+ * <p>
+ * The clocks are plain {@link Clock}s, so the code using them is not tied to
+ * the browser, only the code creating them.
+ * <p>
+ * Sample usage:
+ *
+ * <pre>
+ * Clock clock = Clocks.frame(Clock.systemDefaultZone());
+ * ...
+ * LocalTime now = LocalTime.now(clock);
+ * </pre>
+ *
+ * <h3>Specification for implementors</h3> This class is thread-safe.
+ */
+// GWT Specific
+@Wrap("org.jresearch.threetenbp.gwt.emu")
+public final class Clocks {
+
+	private Clocks() {
+	}
+
+	/**
+	 * Obtains a clock that returns the current instant with microsecond
+	 * precision using the high resolution time of the browser.
+	 * <p>
+	 * The instant is {@code performance.timeOrigin + performance.now()}, the
+	 * precision may be reduced by the browser. This clock follows the monotonic
+	 * clock of the browser from the page load, so it may drift from the
+	 * {@link Clock#system(ZoneId) system clock} if the system time is changed or
+	 * the computer sleeps. Use {@link Stopwatch} to measure the elapsed time.
+	 * <p>
+	 * The returned implementation is immutable, thread-safe and
+	 * {@code Serializable}.
+	 *
+	 * @param zone
+	 *                 the time-zone to use to convert the instant to date-time,
+	 *                 not null
+	 * @return a clock that uses the high resolution time in the specified zone,
+	 *         not null
+	 */
+	public static Clock highResolution(ZoneId zone) {
+		Objects.requireNonNull(zone, "zone");
+		return new HighResolutionClock(zone);
+	}
+
+	/**
+	 * Obtains a clock that samples the specified clock once per animation frame.
+	 * <p>
+	 * The first read in a frame samples the base clock, the following reads in
+	 * the same frame return the same instant. This gives consistent timestamps
+	 * within a frame and keeps the clock reads out of the render loop. The sample
+	 * is dropped by a {@code requestAnimationFrame} callback, so it does not
+	 * change while the current script runs, or on a read 100 ms after it was
+	 * taken. The browsers do not run the animation frames in a hidden tab, there
+	 * the clock behaves as a {@link #coarse(Clock, Duration) coarse} clock with a
+	 * 100 ms interval.
+	 * <p>
+	 * The returned implementation is thread-safe but it is not immutable nor
+	 * {@code Serializable}. The clocks returned by
+	 * {@link Clock#withZone(ZoneId)} share the sample.
+	 *
+	 * @param baseClock
+	 *                      the base clock to sample, not null
+	 * @return a clock that changes once per animation frame, not null
+	 */
+	public static Clock frame(Clock baseClock) {
+		Objects.requireNonNull(baseClock, "baseClock");
+		return new CoarseClock(baseClock, 0);
+	}
+
+	/**
+	 * Obtains a clock that samples the specified clock at most once per interval.
+	 * <p>
+	 * The first read samples the base clock, the following reads return the same
+	 * instant until the interval has elapsed. The age of the sample is checked
+	 * on read with the monotonic time of the browser, not by a timer, so the
+	 * clock does not get stale in a hidden tab where the timers are throttled.
+	 * <p>
+	 * Unlike {@link Clock#tick(Clock, Duration)}, the instants are not truncated,
+	 * they are the real instants of the samples.
+	 * <p>
+	 * The returned implementation is thread-safe but it is not immutable nor
+	 * {@code Serializable}. The clocks returned by
+	 * {@link Clock#withZone(ZoneId)} share the sample.
+	 *
+	 * @param baseClock
+	 *                           the base clock to sample, not null
+	 * @param sampleInterval
+	 *                           the minimal time between the samples, at least
+	 *                           one millisecond, not null
+	 * @return a clock that changes at most once per interval, not null
+	 * @throws IllegalArgumentException
+	 *                                      if the interval is shorter than one
+	 *                                      millisecond or longer than
+	 *                                      {@code Integer.MAX_VALUE} milliseconds
+	 */
+	public static Clock coarse(Clock baseClock, Duration sampleInterval) {
+		Objects.requireNonNull(baseClock, "baseClock");
+		Objects.requireNonNull(sampleInterval, "sampleInterval");
+		if (sampleInterval.compareTo(Duration.ofMillis(1)) < 0 || sampleInterval.compareTo(Duration.ofMillis(Integer.MAX_VALUE)) > 0) {
+			throw new IllegalArgumentException("Invalid sample interval: " + sampleInterval);
+		}
+		return new CoarseClock(baseClock, (int) sampleInterval.toMillis());
+	}
+
+}
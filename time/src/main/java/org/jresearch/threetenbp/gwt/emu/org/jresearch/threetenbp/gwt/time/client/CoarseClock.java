@@ -0,0 +1,111 @@
+package org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client;
+
+import java.util.Objects;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.Clock;
+import org.jresearch.threetenbp.gwt.emu.java.time.Duration;
+import org.jresearch.threetenbp.gwt.emu.java.time.Instant;
+import org.jresearch.threetenbp.gwt.emu.java.time.ZoneId;
+import org.jresearch.threetenbp.gwt.time.client.TimerCallback;
+
+/**
+ * Implementation of a clock that samples an underlying clock once per frame
+ * or interval, see {@link Clocks#frame(Clock)} and
+ * {@link Clocks#coarse(Clock, Duration)}.
+ */
+final class CoarseClock extends Clock {
+
+	/**
+	 * The age of a frame sample that is dropped on read, the animation frames
+	 * are not run in a hidden tab.
+	 */
+	private static final int MAX_FRAME_MILLIS = 100;
+
+	private final Clock baseClock;
+	/** The sample interval, zero for the animation frames. */
+	private final int intervalMillis;
+	private final Sample sample;
+
+	CoarseClock(Clock baseClock, int intervalMillis) {
+		this(baseClock, intervalMillis, new Sample());
+	}
+
+	private CoarseClock(Clock baseClock, int intervalMillis, Sample sample) {
+		this.baseClock = baseClock;
+		this.intervalMillis = intervalMillis;
+		this.sample = sample;
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return baseClock.getZone();
+	}
+
+	@Override
+	public Clock withZone(ZoneId zone) {
+		Objects.requireNonNull(zone);
+		if (zone.equals(baseClock.getZone())) {
+			return this;
+		}
+		return new CoarseClock(baseClock.withZone(zone), intervalMillis, sample);
+	}
+
+	@Override
+	public long millis() {
+		return instant().toEpochMilli();
+	}
+
+	@Override
+	public Instant instant() {
+		Instant instant = sample.instant;
+		double now = Support.getElapsed();
+		// the timers are throttled and the frames paused in a hidden tab, so the age is checked on read
+		if (instant == null || now - sample.elapsed >= (intervalMillis == 0 ? MAX_FRAME_MILLIS : intervalMillis)) {
+			instant = baseClock.instant();
+			sample.instant = instant;
+			sample.elapsed = now;
+			if (intervalMillis == 0 && !sample.scheduled) {
+				sample.scheduled = true;
+				Support.onNextFrame(sample);
+			}
+		}
+		return instant;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj instanceof CoarseClock) {
+			CoarseClock other = (CoarseClock) obj;
+			return baseClock.equals(other.baseClock) && intervalMillis == other.intervalMillis;
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return baseClock.hashCode() ^ intervalMillis;
+	}
+
+	@Override
+	public String toString() {
+		return "CoarseClock[" + baseClock + "," + (intervalMillis == 0 ? "frame" : Duration.ofMillis(intervalMillis)) + "]";
+	}
+
+	/**
+	 * The last sample, dropped by the next animation frame.
+	 */
+	private static final class Sample implements TimerCallback {
+		private volatile Instant instant;
+		/** The monotonic millis of the sample. */
+		private volatile double elapsed;
+		/** True while a frame callback is pending. */
+		private volatile boolean scheduled;
+
+		@Override
+		public void onTimer() {
+			instant = null;
+			scheduled = false;
+		}
+	}
+
+}
@@ -0,0 +1,73 @@
+package org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.Clock;
+import org.jresearch.threetenbp.gwt.emu.java.time.Instant;
+import org.jresearch.threetenbp.gwt.emu.java.time.ZoneId;
+
+/**
+ * Implementation of a clock that returns the high resolution time of the
+ * browser, see {@link Clocks#highResolution(ZoneId)}.
+ */
+final class HighResolutionClock extends Clock implements Serializable {
+
+	private static final long serialVersionUID = 2919422377428355727L;
+	private final ZoneId zone;
+
+	HighResolutionClock(ZoneId zone) {
+		this.zone = zone;
+	}
+
+	@Override
+	public ZoneId getZone() {
+		return zone;
+	}
+
+	@Override
+	public Clock withZone(ZoneId zone) {
+		Objects.requireNonNull(zone);
+		if (zone.equals(this.zone)) {
+			return this;
+		}
+		return new HighResolutionClock(zone);
+	}
+
+	@Override
+	public long millis() {
+		return (long) Math.floor(Support.getTimestamp());
+	}
+
+	@Override
+	public Instant instant() {
+		// computed in doubles, the epoch millis keep a sub-microsecond precision
+		double timestamp = Support.getTimestamp();
+		double seconds = Math.floor(timestamp / 1000);
+		int micros = (int) Math.round((timestamp - seconds * 1000) * 1000);
+		if (micros >= 1000_000) {
+			seconds++;
+			micros -= 1000_000;
+		}
+		return Instant.ofEpochSecond((long) seconds, micros * 1000);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (obj instanceof HighResolutionClock) {
+			return zone.equals(((HighResolutionClock) obj).zone);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return zone.hashCode() + 2;
+	}
+
+	@Override
+	public String toString() {
+		return "HighResolutionClock[" + zone + "]";
+	}
+
+}
@@ -0,0 +1,89 @@
+package org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client;
+
+import org.jresearch.gwt.tool.emu.apt.annotation.Wrap;
+import org.jresearch.threetenbp.gwt.emu.java.time.Duration;
+
+/**
+ * Measures the elapsed time with the monotonic high resolution time of the
+ * browser ({@code performance.now()}).
+ * <p>
+ * The time is kept in double millis, a {@link Duration} is created only when
+ * asked for. The monotonic time is not affected by the changes of the system
+ * time, unlike the differences of the {@code Instant}s of a {@code Clock}.
+ * <p>
+ * Sample usage:
+ *
+ * <pre>
+ * Stopwatch stopwatch = Stopwatch.start();
+ * render();
+ * LOGGER.info("render took {} ms", stopwatch.elapsedMillis());
+ * </pre>
+ *
+ * <h3>Specification for implementors</h3> This class is mutable and not
+ * thread-safe.
+ */
+// GWT Specific
+@Wrap("org.jresearch.threetenbp.gwt.emu")
+public final class Stopwatch {
+
+	/**
+	 * The monotonic millis of the start.
+	 */
+	private double start;
+
+	private Stopwatch(double start) {
+		this.start = start;
+	}
+
+	/**
+	 * Obtains a stopwatch started now.
+	 *
+	 * @return the stopwatch, not null
+	 */
+	public static Stopwatch start() {
+		return new Stopwatch(Support.getElapsed());
+	}
+
+	/**
+	 * Gets the millis elapsed since the start.
+	 *
+	 * @return the elapsed millis with the fraction, not negative
+	 */
+	public double elapsedMillis() {
+		return Math.max(0, Support.getElapsed() - start);
+	}
+
+	/**
+	 * Gets the time elapsed since the start.
+	 *
+	 * @return the elapsed duration in whole microseconds, not null
+	 */
+	public Duration elapsed() {
+		return toDuration(elapsedMillis());
+	}
+
+	/**
+	 * Gets the time elapsed since the start and starts again.
+	 *
+	 * @return the elapsed duration in whole microseconds, not null
+	 */
+	public Duration lap() {
+		double now = Support.getElapsed();
+		double elapsed = Math.max(0, now - start);
+		start = now;
+		return toDuration(elapsed);
+	}
+
+	/**
+	 * Converts the millis with the fraction to a duration, rounded to whole
+	 * microseconds.
+	 *
+	 * @param millis
+	 *                   the millis
+	 * @return the duration, not null
+	 */
+	public static Duration toDuration(double millis) {
+		return Duration.ofNanos(Math.round(millis * 1000) * 1000);
+	}
+
+}
@@ -1,22 +1,35 @@
 package org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.annotation.Nonnull;
 
 import org.jresearch.gwt.tool.emu.apt.annotation.Wrap;
+import org.jresearch.threetenbp.gwt.emu.java.time.ZoneId;
+import org.jresearch.threetenbp.gwt.emu.java.time.chrono.Chronology;
+import org.jresearch.threetenbp.gwt.emu.java.time.chrono.HijrahChronology;
+import org.jresearch.threetenbp.gwt.emu.java.time.chrono.JapaneseChronology;
+import org.jresearch.threetenbp.gwt.emu.java.time.chrono.MinguoChronology;
+import org.jresearch.threetenbp.gwt.emu.java.time.chrono.ThaiBuddhistChronology;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneRulesProvider;
 import org.jresearch.threetenbp.gwt.time.client.DecimalProperty;
+import org.jresearch.threetenbp.gwt.time.client.LocaleTexts;
 import org.jresearch.threetenbp.gwt.time.client.SupportJs;
+import org.jresearch.threetenbp.gwt.time.client.TimerCallback;
 import org.jresearch.threetenbp.gwt.time.client.loader.TimeJsBundle;
 import org.jresearch.threetenbp.gwt.time.client.zone.GwtZoneRuleProvider;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.gwt.core.client.Callback;
 import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.RunAsyncCallback;
 import com.google.gwt.core.client.ScriptInjector;
 
 @Wrap("org.jresearch.threetenbp.gwt.emu")
@@ -28,6 +41,7 @@ public class Support {
 	private static final Map<String, GwtZoneRuleProvider> gwtZoneRuleProviders = new HashMap<>();
 
 	private static boolean commonInitialized = false;
+	private static int defaultZoneVersion;
 
 	public static void init() {
 		if (!commonInitialized) {
@@ -47,11 +61,63 @@ public class Support {
 		}
 	}
 
+	/**
+	 * Initializes the registered time-zone providers without blocking. Providers
+	 * that support it load their data behind a code split point, the callback is
+	 * called once all of them are ready.
+	 *
+	 * @param callback notified when all providers are initialized or one of them failed, not null
+	 */
+	public static void initTzDataAsync(Callback<Void, Throwable> callback) {
+		LOGGER.debug("initTzDataAsync called");
+		if (!commonInitialized) {
+			init();
+		}
+		List<GwtZoneRuleProvider> pending = gwtZoneRuleProviders.values().stream().filter(p -> !p.isInitialized()).collect(Collectors.toList());
+		if (pending.isEmpty()) {
+			callback.onSuccess(null);
+			return;
+		}
+		TzDataCallback tzDataCallback = new TzDataCallback(pending.size(), callback);
+		pending.forEach(p -> p.initializeAsync(tzDataCallback));
+	}
+
+	/**
+	 * Loads the calendar systems other than ISO without blocking. With the
+	 * {@code org.jresearch.threetenbp.gwt.time.chrono.async} configuration property
+	 * set to {@code true} they are left out of the initial download and
+	 * {@link Chronology#of(String)} finds them once the callback is called.
+	 *
+	 * @param callback notified when the calendar systems are registered or the load failed, not null
+	 */
+	public static void initChronologiesAsync(Callback<Void, Throwable> callback) {
+		LOGGER.debug("initChronologiesAsync called");
+		GWT.runAsync(Chronology.class, new RunAsyncCallback() {
+
+			@Override
+			public void onSuccess() {
+				// the calendar systems register themselves when loaded
+				List<Chronology> loaded = Arrays.asList(ThaiBuddhistChronology.INSTANCE, MinguoChronology.INSTANCE, JapaneseChronology.INSTANCE,
+						HijrahChronology.INSTANCE);
+				LOGGER.debug("initChronologiesAsync finished: {}", loaded);
+				callback.onSuccess(null);
+			}
+
+			@Override
+			public void onFailure(Throwable reason) {
+				LOGGER.error("initChronologiesAsync failed", reason);
+				callback.onFailure(reason);
+			}
+		});
+	}
+
 	public static void registerGwtZoneRuleProvider(GwtZoneRuleProvider gwtZoneRuleProvider) {
 		if (!gwtZoneRuleProviders.containsKey(gwtZoneRuleProvider.getProviderId())) {
 			LOGGER.debug("Register GWT zone rule provider: {}", gwtZoneRuleProvider.getProviderId());
 			gwtZoneRuleProviders.put(gwtZoneRuleProvider.getProviderId(), gwtZoneRuleProvider);
 			ZoneRulesProvider.refresh();
+			// the cached default zone may come from another provider
+			defaultZoneVersion++;
 		}
 	}
 
@@ -59,10 +125,20 @@ public class Support {
 		return !gwtZoneRuleProviders.isEmpty() && gwtZoneRuleProviders.values().stream().allMatch(GwtZoneRuleProvider::isInitialized);
 	}
 
-	public static float getTimestamp() {
+	/**
+	 * @return the epoch millis with the fraction of the browser high resolution time
+	 */
+	public static double getTimestamp() {
 		return SupportJs.getTimestamp();
 	}
 
+	/**
+	 * @return the monotonic millis with the fraction, only the differences are meaningful
+	 */
+	public static double getElapsed() {
+		return SupportJs.getElapsed();
+	}
+
 	public static int getMinutesOffset() {
 		return SupportJs.getMinutesOffset();
 	}
@@ -72,10 +148,42 @@ public class Support {
 		return SupportJs.getTimezone();
 	}
 
+	/**
+	 * {@link ZoneId#systemDefault()} is cached and resolved again only when the
+	 * browser offset changes. Call this method after the system zone was changed
+	 * to another one with the same offset.
+	 */
+	public static void refreshDefaultZone() {
+		SupportJs.refreshTimezone();
+		defaultZoneVersion++;
+	}
+
+	/**
+	 * @return the number of the {@link #refreshDefaultZone()} calls, the cached
+	 *         default zone is valid for one version only
+	 */
+	public static int getDefaultZoneVersion() {
+		return defaultZoneVersion;
+	}
+
 	public static void sleep(int milliseconds) {
 		SupportJs.sleep(milliseconds);
 	}
 
+	/**
+	 * Calls the callback once before the next repaint of the browser.
+	 */
+	public static void onNextFrame(TimerCallback callback) {
+		SupportJs.onNextFrame(callback);
+	}
+
+	/**
+	 * Calls the callback once after the delay, when the browser is idle.
+	 */
+	public static void onTimeout(TimerCallback callback, int milliseconds) {
+		SupportJs.onTimeout(callback, milliseconds);
+	}
+
 	/**
 	 * @param style  - "short", "long"
 	 * @param locale - language tag
@@ -121,6 +229,16 @@ public class Support {
 		return SupportJs.displayAmpm(style, locale);
 	}
 
+	/**
+	 * Months, weekdays, eras and day periods of all the styles in one call
+	 *
+	 * @param locale - language tag
+	 */
+	@Nonnull
+	public static LocaleTexts displayTexts(String locale) {
+		return SupportJs.displayTexts(locale);
+	}
+
 	@Nonnull
 	public static DecimalProperty displayNumber(String locale) {
 		return SupportJs.displayNumber(locale);
@@ -140,8 +258,61 @@ public class Support {
 		return Stream.of(supportedLocales).map(Support::jsRootToJava).map(Locale::forLanguageTag).toArray(Locale[]::new);
 	}
 
+	/**
+	 * The support script keeps the Intl instances by the locale and the options
+	 * and the supported locales by the requested ones.
+	 *
+	 * @return number of the cached values reused since the last clear
+	 */
+	public static int getIntlCacheHits() {
+		return SupportJs.getIntlCacheHits();
+	}
+
+	/**
+	 * @return number of the values created for the cache since the last clear
+	 */
+	public static int getIntlCacheMisses() {
+		return SupportJs.getIntlCacheMisses();
+	}
+
+	/**
+	 * Drops the cached Intl instances and supported locales, resets the counters.
+	 */
+	public static void clearIntlCache() {
+		SupportJs.clearIntlCache();
+	}
+
 	public static String jsRootToJava(String tag) {
 		return "root".equalsIgnoreCase(tag) ? "" : tag;
 	}
 
+	private static final class TzDataCallback implements Callback<Void, Throwable> {
+
+		private final Callback<Void, Throwable> callback;
+		private int remaining;
+		private boolean failed;
+
+		private TzDataCallback(int remaining, Callback<Void, Throwable> callback) {
+			this.remaining = remaining;
+			this.callback = callback;
+		}
+
+		@Override
+		public void onSuccess(Void result) {
+			if (!failed && --remaining == 0) {
+				LOGGER.debug("initTzDataAsync finished");
+				callback.onSuccess(null);
+			}
+		}
+
+		@Override
+		public void onFailure(Throwable reason) {
+			if (!failed) {
+				failed = true;
+				LOGGER.error("initTzDataAsync failed", reason);
+				callback.onFailure(reason);
+			}
+		}
+	}
+
 }
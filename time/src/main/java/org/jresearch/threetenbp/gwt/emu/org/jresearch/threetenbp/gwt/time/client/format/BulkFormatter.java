@@ -0,0 +1,119 @@
+package org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.format;
+
+import java.io.IOException;
+import java.util.Objects;
+
+import org.jresearch.gwt.tool.emu.apt.annotation.Wrap;
+import org.jresearch.threetenbp.gwt.emu.java.time.DateTimeException;
+import org.jresearch.threetenbp.gwt.emu.java.time.format.DateTimeFormatter;
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
+
+/**
+ * Formats many date-time objects with one formatter.
+ * <p>
+ * The result is the same as calling {@link DateTimeFormatter#format} for each
+ * temporal, but one print context and one buffer are shared by all of them.
+ * <p>
+ * Sample usage:
+ *
+ * <pre>
+ * String[] cells = new String[dates.length];
+ * BulkFormatter.formatAll(DateTimeFormatter.ISO_LOCAL_DATE, dates, cells);
+ * </pre>
+ *
+ * <h3>Specification for implementors</h3> This class is thread-safe.
+ */
+// GWT Specific
+@Wrap("org.jresearch.threetenbp.gwt.emu")
+public final class BulkFormatter {
+
+	private BulkFormatter() {
+	}
+
+	/**
+	 * Formats many date-time objects using the formatter.
+	 * <p>
+	 * The result is the same as calling
+	 * {@link DateTimeFormatter#format(TemporalAccessor)} for each temporal.
+	 *
+	 * @param formatter
+	 *                      the formatter to use, not null
+	 * @param temporals
+	 *                      the temporal objects to print, not null, the elements
+	 *                      not null
+	 * @param results
+	 *                      the array to store the formatted strings at the same
+	 *                      index, not null
+	 * @throws IllegalArgumentException
+	 *                                      if the results array is shorter than
+	 *                                      the temporals array
+	 * @throws DateTimeException
+	 *                                      if an error occurs during formatting
+	 */
+	public static void formatAll(DateTimeFormatter formatter, TemporalAccessor[] temporals, String[] results) {
+		Objects.requireNonNull(formatter, "formatter");
+		Objects.requireNonNull(temporals, "temporals");
+		Objects.requireNonNull(results, "results");
+		if (results.length < temporals.length) {
+			throw new IllegalArgumentException("Results array too short: " + results.length + " < " + temporals.length);
+		}
+		PrintContextAccess access = PrintContextAccess.of(formatter);
+		StringBuilder buf = new StringBuilder(32);
+		for (int i = 0; i < temporals.length; i++) {
+			buf.setLength(0);
+			access.print(temporals[i], buf);
+			results[i] = buf.toString();
+		}
+	}
+
+	/**
+	 * Formats many date-time objects to an {@code Appendable} using the
+	 * formatter.
+	 * <p>
+	 * The result is the same as calling
+	 * {@link DateTimeFormatter#formatTo(TemporalAccessor, Appendable)} for each
+	 * temporal with the separator between them. Arrays can be passed with
+	 * {@link java.util.Arrays#asList(Object...)}.
+	 * <p>
+	 * If an error occurs, the temporals before the failing one may have been
+	 * printed already.
+	 *
+	 * @param formatter
+	 *                       the formatter to use, not null
+	 * @param temporals
+	 *                       the temporal objects to print, not null, the
+	 *                       elements not null
+	 * @param separator
+	 *                       the text to print between the temporals, not null
+	 * @param appendable
+	 *                       the appendable to print to, not null
+	 * @throws DateTimeException
+	 *                               if an error occurs during formatting
+	 */
+	public static void formatAllTo(DateTimeFormatter formatter, Iterable<? extends TemporalAccessor> temporals, CharSequence separator, Appendable appendable) {
+		Objects.requireNonNull(formatter, "formatter");
+		Objects.requireNonNull(temporals, "temporals");
+		Objects.requireNonNull(separator, "separator");
+		Objects.requireNonNull(appendable, "appendable");
+		PrintContextAccess access = PrintContextAccess.of(formatter);
+		// print straight to a builder, buffer otherwise
+		StringBuilder buf = appendable instanceof StringBuilder ? (StringBuilder) appendable : new StringBuilder(32);
+		try {
+			boolean first = true;
+			for (TemporalAccessor temporal : temporals) {
+				if (!first) {
+					buf.append(separator);
+				}
+				first = false;
+				access.print(temporal, buf);
+				if (buf != appendable) {
+					appendable.append(buf);
+					buf.setLength(0);
+				}
+			}
+		} catch (IOException ex) {
+			throw new DateTimeException(ex.getMessage(), ex);
+		}
+	}
+
+}
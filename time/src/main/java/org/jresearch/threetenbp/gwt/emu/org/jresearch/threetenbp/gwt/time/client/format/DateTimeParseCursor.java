@@ -0,0 +1,223 @@
+package org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.format;
+
+import java.util.Objects;
+
+import org.jresearch.gwt.tool.emu.apt.annotation.Wrap;
+import org.jresearch.threetenbp.gwt.emu.java.text.ParsePosition;
+import org.jresearch.threetenbp.gwt.emu.java.time.DateTimeException;
+import org.jresearch.threetenbp.gwt.emu.java.time.format.DateTimeFormatter;
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQuery;
+
+/**
+ * Cursor parsing many date-times out of one text, such as a log or a CSV
+ * payload.
+ * <p>
+ * The cursor parses in place at its {@link #getPosition() position}, without
+ * copying substrings, and reuses one parse context for all the attempts. As
+ * {@link DateTimeFormatter#parseUnresolved(CharSequence, ParsePosition)}, a
+ * failure is reported by the error index of the position, not by an exception.
+ * <p>
+ * Sample usage:
+ *
+ * <pre>
+ * DateTimeParseCursor cursor = DateTimeParseCursor.of(DateTimeFormatter.ISO_LOCAL_DATE_TIME, log);
+ * while (cursor.find()) {
+ * 	LocalDateTime time = cursor.resolve(LocalDateTime::from);
+ * }
+ * </pre>
+ *
+ * <h3>Specification for implementors</h3> This class is mutable and not
+ * thread-safe.
+ */
+// GWT Specific
+@Wrap("org.jresearch.threetenbp.gwt.emu")
+public final class DateTimeParseCursor {
+
+	/**
+	 * The access to the parse context of the formatter, not null.
+	 */
+	private final ParseContextAccess access;
+	/**
+	 * The text to parse, not null.
+	 */
+	private final CharSequence text;
+	/**
+	 * The position, not null.
+	 */
+	private final ParsePosition position = new ParsePosition(0);
+	/**
+	 * The result of the last successful attempt, null if the last attempt
+	 * failed.
+	 */
+	private TemporalAccessor parsed;
+	/**
+	 * The index of the start of the last match, -1 if none.
+	 */
+	private int start = -1;
+	/**
+	 * The index of the end of the last match, -1 if none.
+	 */
+	private int end = -1;
+
+	private DateTimeParseCursor(DateTimeFormatter formatter, CharSequence text) {
+		this.access = ParseContextAccess.of(formatter);
+		this.text = text;
+	}
+
+	/**
+	 * Obtains a cursor at the start of the text.
+	 *
+	 * @param formatter
+	 *                      the formatter to parse with, not null
+	 * @param text
+	 *                      the text to parse, not null
+	 * @return the cursor, not null
+	 */
+	public static DateTimeParseCursor of(DateTimeFormatter formatter, CharSequence text) {
+		Objects.requireNonNull(formatter, "formatter");
+		Objects.requireNonNull(text, "text");
+		return new DateTimeParseCursor(formatter, text);
+	}
+
+	/**
+	 * Gets the text of the cursor.
+	 *
+	 * @return the text, not null
+	 */
+	public CharSequence getText() {
+		return text;
+	}
+
+	/**
+	 * Gets the position of the cursor.
+	 * <p>
+	 * The index is where the next attempt starts, after a match it is the end
+	 * of the match. The error index is set if the last {@link #parseNext()}
+	 * failed. The index can be changed to move the cursor.
+	 *
+	 * @return the position, not null
+	 */
+	public ParsePosition getPosition() {
+		return position;
+	}
+
+	/**
+	 * Parses the text at the index of the position.
+	 * <p>
+	 * On success the index is moved to the end of the parsed text. On failure
+	 * the index is not changed and the error index is set.
+	 *
+	 * @return true if parsed
+	 * @throws IndexOutOfBoundsException
+	 *                                       if the index is out of the text
+	 */
+	public boolean parseNext() {
+		int index = checkIndex();
+		if (attempt(index)) {
+			return true;
+		}
+		parsed = null;
+		start = -1;
+		end = -1;
+		return false;
+	}
+
+	/**
+	 * Finds the next text that can be parsed, starting at the index of the
+	 * position.
+	 * <p>
+	 * The parse is attempted at each index until one succeeds, then the index
+	 * is moved to the end of the parsed text. If the previous match was empty,
+	 * the search starts one character after it. If nothing is found the index is
+	 * moved to the end of the text.
+	 *
+	 * @return true if found
+	 * @throws IndexOutOfBoundsException
+	 *                                       if the index is out of the text
+	 */
+	public boolean find() {
+		int index = checkIndex();
+		if (parsed != null && start == index && end == index) {
+			// do not match the same empty text again
+			index++;
+		}
+		int length = text.length();
+		for (; index <= length; index++) {
+			if (attempt(index)) {
+				return true;
+			}
+		}
+		parsed = null;
+		start = -1;
+		end = -1;
+		position.setIndex(length);
+		position.setErrorIndex(-1);
+		return false;
+	}
+
+	/**
+	 * Gets the start index of the last match.
+	 *
+	 * @return the start index, -1 if the last attempt failed
+	 */
+	public int getStart() {
+		return start;
+	}
+
+	/**
+	 * Gets the unresolved result of the last match.
+	 * <p>
+	 * The result is not changed by the following attempts.
+	 *
+	 * @return the parsed fields, null if the last attempt failed
+	 * @see DateTimeFormatter#parseUnresolved(CharSequence, ParsePosition)
+	 */
+	public TemporalAccessor getParsed() {
+		return parsed;
+	}
+
+	/**
+	 * Resolves the last match using the resolver settings of the formatter.
+	 *
+	 * @param <T>
+	 *                  the type of the result
+	 * @param query
+	 *                  the query defining the type to resolve to, not null
+	 * @return the resolved date-time, not null
+	 * @throws IllegalStateException
+	 *                                   if the last attempt failed
+	 * @throws DateTimeException
+	 *                                   if unable to resolve the result
+	 */
+	public <T> T resolve(TemporalQuery<T> query) {
+		Objects.requireNonNull(query, "query");
+		if (parsed == null) {
+			throw new IllegalStateException("No match to resolve");
+		}
+		return access.resolve(parsed, query);
+	}
+
+	private int checkIndex() {
+		int index = position.getIndex();
+		if (index < 0 || index > text.length()) {
+			throw new IndexOutOfBoundsException("Index out of the text: " + index);
+		}
+		return index;
+	}
+
+	private boolean attempt(int index) {
+		int pos = access.parse(text, index);
+		if (pos < 0) {
+			position.setErrorIndex(~pos);
+			return false;
+		}
+		parsed = access.getParsed();
+		start = index;
+		end = pos;
+		position.setIndex(pos);
+		position.setErrorIndex(-1);
+		return true;
+	}
+
+}
@@ -0,0 +1,201 @@
+package org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.format;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+import org.jresearch.gwt.tool.emu.apt.annotation.Wrap;
+import org.jresearch.threetenbp.gwt.emu.java.time.format.DateTimeFormatter;
+import org.jresearch.threetenbp.gwt.emu.java.time.format.DateTimeFormatterBuilder;
+
+/**
+ * Bounded cache of the formatters created by
+ * {@link DateTimeFormatter#ofPattern(String, Locale)}.
+ * <p>
+ * The formatters are immutable, so the same instance is returned for the same
+ * pattern and locale while it stays in the cache. The resolver settings of the
+ * pattern formatters are always the defaults ({@code SMART}, all the fields),
+ * the formatters changed by the {@code with...} methods are not cached. When
+ * the cache is full the least recently used formatter is dropped.
+ * <p>
+ * Sample usage:
+ *
+ * <pre>
+ * FormatterCache.setCapacity(256);
+ * ...
+ * LOGGER.info("patterns: {} hits, {} misses", FormatterCache.getHitCount(), FormatterCache.getMissCount());
+ * </pre>
+ *
+ * <h3>Specification for implementors</h3> This class is thread-safe.
+ */
+// GWT Specific
+@Wrap("org.jresearch.threetenbp.gwt.emu")
+public final class FormatterCache {
+
+	/**
+	 * The default capacity.
+	 */
+	public static final int DEFAULT_CAPACITY = 64;
+
+	/**
+	 * The formatters by the pattern and locale, the least recently used first.
+	 */
+	private static final Map<Key, DateTimeFormatter> CACHE = new LinkedHashMap<Key, DateTimeFormatter>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, DateTimeFormatter> eldest) {
+			return size() > capacity;
+		}
+	};
+
+	private static int capacity = DEFAULT_CAPACITY;
+	private static long hitCount;
+	private static long missCount;
+
+	/**
+	 * Restricted constructor.
+	 */
+	private FormatterCache() {
+	}
+
+	/**
+	 * Gets the formatter of the pattern, from the cache if possible.
+	 *
+	 * @param pattern
+	 *                    the pattern to use, not null
+	 * @param locale
+	 *                    the locale to use, not null
+	 * @return the formatter based on the pattern, not null
+	 * @throws IllegalArgumentException
+	 *                                      if the pattern is invalid
+	 * @see DateTimeFormatter#ofPattern(String, Locale)
+	 */
+	public static DateTimeFormatter ofPattern(String pattern, Locale locale) {
+		Objects.requireNonNull(pattern, "pattern");
+		Objects.requireNonNull(locale, "locale");
+		Key key = new Key(pattern, locale);
+		synchronized (CACHE) {
+			DateTimeFormatter formatter = CACHE.get(key);
+			if (formatter != null) {
+				hitCount++;
+				return formatter;
+			}
+			missCount++;
+		}
+		// built outside of the lock, a concurrent miss builds an equal formatter
+		DateTimeFormatter formatter = new DateTimeFormatterBuilder().appendPattern(pattern).toFormatter(locale);
+		synchronized (CACHE) {
+			if (capacity > 0) {
+				CACHE.put(key, formatter);
+			}
+		}
+		return formatter;
+	}
+
+	/**
+	 * Gets the maximum number of the cached formatters.
+	 *
+	 * @return the capacity, zero if the cache is disabled
+	 */
+	public static int getCapacity() {
+		synchronized (CACHE) {
+			return capacity;
+		}
+	}
+
+	/**
+	 * Sets the maximum number of the cached formatters, dropping the least
+	 * recently used ones above it.
+	 *
+	 * @param capacity
+	 *                     the capacity, zero to disable the cache
+	 * @throws IllegalArgumentException
+	 *                                      if the capacity is negative
+	 */
+	public static void setCapacity(int capacity) {
+		if (capacity < 0) {
+			throw new IllegalArgumentException("Capacity must not be negative: " + capacity);
+		}
+		synchronized (CACHE) {
+			FormatterCache.capacity = capacity;
+			while (CACHE.size() > capacity) {
+				CACHE.remove(CACHE.keySet().iterator().next());
+			}
+		}
+	}
+
+	/**
+	 * Gets the number of the cached formatters.
+	 *
+	 * @return the size
+	 */
+	public static int size() {
+		synchronized (CACHE) {
+			return CACHE.size();
+		}
+	}
+
+	/**
+	 * Gets the number of the lookups served from the cache.
+	 *
+	 * @return the hit count
+	 */
+	public static long getHitCount() {
+		synchronized (CACHE) {
+			return hitCount;
+		}
+	}
+
+	/**
+	 * Gets the number of the lookups that created a formatter.
+	 *
+	 * @return the miss count
+	 */
+	public static long getMissCount() {
+		synchronized (CACHE) {
+			return missCount;
+		}
+	}
+
+	/**
+	 * Removes all the cached formatters and resets the statistics.
+	 */
+	public static void clear() {
+		synchronized (CACHE) {
+			CACHE.clear();
+			hitCount = 0;
+			missCount = 0;
+		}
+	}
+
+	//-----------------------------------------------------------------------
+	private static final class Key {
+		private final String pattern;
+		private final Locale locale;
+
+		Key(String pattern, Locale locale) {
+			this.pattern = pattern;
+			this.locale = locale;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (obj instanceof Key) {
+				Key other = (Key) obj;
+				return pattern.equals(other.pattern) && locale.equals(other.locale);
+			}
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return pattern.hashCode() * 31 + locale.hashCode();
+		}
+	}
+
+}
@@ -0,0 +1,83 @@
+package org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.format;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.format.DateTimeFormatter;
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQuery;
+
+/**
+ * Access to the parse context of a formatter, used by
+ * {@link DateTimeParseCursor}.
+ * <p>
+ * The parse context is package-private in {@code java.time.format}, so the
+ * implementation lives there and registers its factory when the
+ * {@link DateTimeFormatter} class is initialized. Not for the application use.
+ *
+ * <h3>Specification for implementors</h3> The implementations are mutable and
+ * not thread-safe.
+ */
+public abstract class ParseContextAccess {
+
+	/**
+	 * The factory registered by {@code java.time.format}.
+	 */
+	private static Function<DateTimeFormatter, ParseContextAccess> factory;
+
+	/**
+	 * Registers the factory of the implementation, only once.
+	 *
+	 * @param accessFactory
+	 *                          the factory, not null
+	 * @throws IllegalStateException
+	 *                                   if a factory is registered already
+	 */
+	public static void register(Function<DateTimeFormatter, ParseContextAccess> accessFactory) {
+		Objects.requireNonNull(accessFactory, "accessFactory");
+		if (factory != null) {
+			throw new IllegalStateException("Parse context access is registered already");
+		}
+		factory = accessFactory;
+	}
+
+	static ParseContextAccess of(DateTimeFormatter formatter) {
+		// the formatter instance exists, so its class registered the factory
+		return factory.apply(formatter);
+	}
+
+	/**
+	 * Parses the text at the index, reusing one context for all the attempts.
+	 *
+	 * @param text
+	 *                  the text to parse, not null
+	 * @param index
+	 *                  the index to start at
+	 * @return the end index if parsed, the complement of the error index if not
+	 */
+	public abstract int parse(CharSequence text, int index);
+
+	/**
+	 * Gets the unresolved result of the last successful parse.
+	 * <p>
+	 * The result is not changed by the following attempts.
+	 *
+	 * @return the parsed fields, not null
+	 */
+	public abstract TemporalAccessor getParsed();
+
+	/**
+	 * Resolves a result of {@link #getParsed()} using the resolver settings of
+	 * the formatter.
+	 *
+	 * @param <T>
+	 *                   the type of the result
+	 * @param parsed
+	 *                   the parsed fields, not null
+	 * @param query
+	 *                   the query defining the type to resolve to, not null
+	 * @return the resolved date-time, not null
+	 */
+	public abstract <T> T resolve(TemporalAccessor parsed, TemporalQuery<T> query);
+
+}
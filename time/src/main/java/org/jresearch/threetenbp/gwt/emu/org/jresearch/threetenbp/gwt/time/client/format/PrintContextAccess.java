@@ -0,0 +1,57 @@
+package org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.format;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.format.DateTimeFormatter;
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
+
+/**
+ * Access to the print context of a formatter, used by {@link BulkFormatter}.
+ * <p>
+ * The print context is package-private in {@code java.time.format}, so the
+ * implementation lives there and registers its factory when the
+ * {@link DateTimeFormatter} class is initialized. Not for the application use.
+ *
+ * <h3>Specification for implementors</h3> The implementations are mutable and
+ * not thread-safe.
+ */
+public abstract class PrintContextAccess {
+
+	/**
+	 * The factory registered by {@code java.time.format}.
+	 */
+	private static Function<DateTimeFormatter, PrintContextAccess> factory;
+
+	/**
+	 * Registers the factory of the implementation, only once.
+	 *
+	 * @param accessFactory
+	 *                          the factory, not null
+	 * @throws IllegalStateException
+	 *                                   if a factory is registered already
+	 */
+	public static void register(Function<DateTimeFormatter, PrintContextAccess> accessFactory) {
+		Objects.requireNonNull(accessFactory, "accessFactory");
+		if (factory != null) {
+			throw new IllegalStateException("Print context access is registered already");
+		}
+		factory = accessFactory;
+	}
+
+	static PrintContextAccess of(DateTimeFormatter formatter) {
+		// the formatter instance exists, so its class registered the factory
+		return factory.apply(formatter);
+	}
+
+	/**
+	 * Prints the temporal, reusing one context for all the temporals.
+	 *
+	 * @param temporal
+	 *                     the temporal object to print, not null
+	 * @param buf
+	 *                     the buffer to print to, not null
+	 */
+	public abstract void print(TemporalAccessor temporal, StringBuilder buf);
+
+}
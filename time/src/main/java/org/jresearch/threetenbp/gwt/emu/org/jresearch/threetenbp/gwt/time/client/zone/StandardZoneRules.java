@@ -37,8 +37,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ConcurrentMap;
 
 import org.jresearch.gwt.tool.emu.apt.annotation.Wrap;
 import org.jresearch.threetenbp.gwt.emu.java.time.Duration;
@@ -72,6 +70,15 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 	 * The last year to have its transitions cached.
 	 */
 	private static final int LAST_CACHED_YEAR = 2100;
+	/**
+	 * The first year to have its transitions cached if there are no historic
+	 * transitions.
+	 */
+	private static final int FIRST_CACHED_YEAR = 1900;
+	/**
+	 * The number of days in a 400 year cycle.
+	 */
+	private static final int DAYS_PER_CYCLE = 146097;
 
 	/**
 	 * The transitions between standard offsets (epoch seconds), sorted.
@@ -86,11 +93,12 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 	 */
 	private final long[] savingsInstantTransitions;
 	/**
-	 * The transitions between local date-times, sorted. This is a paired array,
-	 * where the first entry is the start of the transition and the second entry is
-	 * the end of the transition.
+	 * The transitions between local date-times (epoch seconds in UTC), sorted,
+	 * lazily created. This is a paired array, where the first entry is the start
+	 * of the transition and the second entry is the end of the transition.
 	 */
-	private final LocalDateTime[] savingsLocalTransitions;
+	// GWT specific - primitive keys created on the first local lookup
+	private transient long[] savingsLocalTransitions;
 	/**
 	 * The wall offsets.
 	 */
@@ -100,9 +108,20 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 	 */
 	private final ZoneOffsetTransitionRule[] lastRules;
 	/**
-	 * The map of recent transitions.
+	 * The transitions (epoch seconds) of the last rules by year, indexed by
+	 * {@code year - lastRulesFirstYear}, lazily filled.
+	 */
+	// GWT specific - primitive table instead of the map of the transitions
+	private transient long[][] lastRulesTransitions;
+	/**
+	 * The first year of {@link #lastRulesTransitions}.
+	 */
+	private transient int lastRulesFirstYear;
+	/**
+	 * The range of the last offset found by {@link #getOffset(Instant)}.
 	 */
-	private final ConcurrentMap<Integer, ZoneOffsetTransition[]> lastRulesCache = new ConcurrentHashMap<>();
+	// GWT specific - the nearby instants are answered without the search
+	private transient OffsetRange lastOffsetRange;
 
 	/**
 	 * Creates an instance.
@@ -140,21 +159,12 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 			this.standardOffsets[i + 1] = standardOffsetTransitionList.get(i).getOffsetAfter();
 		}
 
-		// convert savings transitions to locals
-		List<LocalDateTime> localTransitionList = new ArrayList<>();
+		// convert savings transitions to wall offsets, the locals are created lazily
 		List<ZoneOffset> localTransitionOffsetList = new ArrayList<>();
 		localTransitionOffsetList.add(baseWallOffset);
 		for (ZoneOffsetTransition trans : transitionList) {
-			if (trans.isGap()) {
-				localTransitionList.add(trans.getDateTimeBefore());
-				localTransitionList.add(trans.getDateTimeAfter());
-			} else {
-				localTransitionList.add(trans.getDateTimeAfter());
-				localTransitionList.add(trans.getDateTimeBefore());
-			}
 			localTransitionOffsetList.add(trans.getOffsetAfter());
 		}
-		this.savingsLocalTransitions = localTransitionList.toArray(new LocalDateTime[localTransitionList.size()]);
 		this.wallOffsets = localTransitionOffsetList.toArray(new ZoneOffset[localTransitionOffsetList.size()]);
 
 		// convert savings transitions to instants
@@ -199,22 +209,6 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 		this.savingsInstantTransitions = savingsInstantTransitions;
 		this.wallOffsets = wallOffsets;
 		this.lastRules = lastRules;
-
-		// convert savings transitions to locals
-		List<LocalDateTime> localTransitionList = new ArrayList<>();
-		for (int i = 0; i < savingsInstantTransitions.length; i++) {
-			ZoneOffset before = wallOffsets[i];
-			ZoneOffset after = wallOffsets[i + 1];
-			ZoneOffsetTransition trans = new ZoneOffsetTransition(savingsInstantTransitions[i], before, after);
-			if (trans.isGap()) {
-				localTransitionList.add(trans.getDateTimeBefore());
-				localTransitionList.add(trans.getDateTimeAfter());
-			} else {
-				localTransitionList.add(trans.getDateTimeAfter());
-				localTransitionList.add(trans.getDateTimeBefore());
-			}
-		}
-		this.savingsLocalTransitions = localTransitionList.toArray(new LocalDateTime[localTransitionList.size()]);
 	}
 
 	// -----------------------------------------------------------------------
@@ -305,19 +299,47 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 	public ZoneOffset getOffset(Instant instant) {
 		long epochSec = instant.getEpochSecond();
 
+		// GWT specific - check the last found range
+		OffsetRange range = lastOffsetRange;
+		if (range != null && epochSec >= range.start && epochSec < range.end) {
+			return range.offset;
+		}
+		range = findOffsetRange(epochSec);
+		lastOffsetRange = range;
+		return range.offset;
+	}
+
+	/**
+	 * Finds the offset and the range of the epoch seconds it is valid for.
+	 *
+	 * @param epochSec
+	 *                     the epoch second
+	 * @return the offset range, not null
+	 */
+	// GWT specific - used by ZoneOffsetCursor as well
+	OffsetRange findOffsetRange(long epochSec) {
+		int last = savingsInstantTransitions.length - 1;
+
 		// check if using last rules
-		if (lastRules.length > 0 && (savingsInstantTransitions.length == 0 ||
-				epochSec > savingsInstantTransitions[savingsInstantTransitions.length - 1])) {
-			int year = findYear(epochSec, wallOffsets[wallOffsets.length - 1]);
-			ZoneOffsetTransition[] transArray = findTransitionArray(year);
-			ZoneOffsetTransition trans = null;
+		if (lastRules.length > 0 && (last < 0 || epochSec > savingsInstantTransitions[last])) {
+			ZoneOffset lastWallOffset = wallOffsets[wallOffsets.length - 1];
+			int year = findYear(epochSec, lastWallOffset);
+			long[] transArray = findTransitionEpochSeconds(year);
+			// the transitions are found by the year, so the range is limited by it
+			long start = ZoneOffsetTransitionRule.toEpochDay(year, 1, 1) * 86400 - lastWallOffset.getTotalSeconds();
+			long end = year < Year.MAX_VALUE
+					? ZoneOffsetTransitionRule.toEpochDay(year + 1, 1, 1) * 86400 - lastWallOffset.getTotalSeconds()
+					: Long.MAX_VALUE;
+			if (last >= 0) {
+				start = Math.max(start, savingsInstantTransitions[last] + 1);
+			}
 			for (int i = 0; i < transArray.length; i++) {
-				trans = transArray[i];
-				if (epochSec < trans.toEpochSecond()) {
-					return trans.getOffsetBefore();
+				if (epochSec < transArray[i]) {
+					return new OffsetRange(start, Math.min(end, transArray[i]), lastRules[i].getOffsetBefore());
 				}
+				start = Math.max(start, transArray[i]);
 			}
-			return trans.getOffsetAfter();
+			return new OffsetRange(start, end, lastRules[lastRules.length - 1].getOffsetAfter());
 		}
 
 		// using historic rules
@@ -326,7 +348,15 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 			// switch negative insert position to start of matched range
 			index = -index - 2;
 		}
-		return wallOffsets[index + 1];
+		long start = index >= 0 ? savingsInstantTransitions[index] : Long.MIN_VALUE;
+		long end;
+		if (index < last) {
+			end = savingsInstantTransitions[index + 1];
+		} else {
+			// the last rules are used after the last transition
+			end = lastRules.length > 0 ? savingsInstantTransitions[last] + 1 : Long.MAX_VALUE;
+		}
+		return new OffsetRange(start, end, wallOffsets[index + 1]);
 	}
 
 	// -----------------------------------------------------------------------
@@ -356,14 +386,20 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 	}
 
 	private Object getOffsetInfo(LocalDateTime dt) {
+		// GWT specific - the search is on the local epoch seconds, a local
+		// date-time with nanos is after the transition at the same second
+		long localSecond = dt.toEpochSecond(ZoneOffset.UTC);
+		boolean nanos = dt.getNano() > 0;
+		long[] localTransitions = findLocalTransitions();
 		// check if using last rules
-		if (lastRules.length > 0 && (savingsLocalTransitions.length == 0 ||
-				dt.isAfter(savingsLocalTransitions[savingsLocalTransitions.length - 1]))) {
-			ZoneOffsetTransition[] transArray = findTransitionArray(dt.getYear());
+		if (lastRules.length > 0 && (localTransitions.length == 0 ||
+				isAfter(localSecond, nanos, localTransitions[localTransitions.length - 1]))) {
+			long[] transArray = findTransitionEpochSeconds(dt.getYear());
 			Object info = null;
-			for (ZoneOffsetTransition trans : transArray) {
-				info = findOffsetInfo(dt, trans);
-				if (info instanceof ZoneOffsetTransition || info.equals(trans.getOffsetBefore())) {
+			for (int i = 0; i < transArray.length; i++) {
+				ZoneOffsetTransitionRule rule = lastRules[i];
+				info = findOffsetInfo(localSecond, transArray[i], rule.getOffsetBefore(), rule.getOffsetAfter());
+				if (info instanceof ZoneOffsetTransition || info.equals(rule.getOffsetBefore())) {
 					return info;
 				}
 			}
@@ -371,7 +407,14 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 		}
 
 		// using historic rules
-		int index = Arrays.binarySearch(savingsLocalTransitions, dt);
+		int index = Arrays.binarySearch(localTransitions, localSecond);
+		if (index >= 0 && nanos) {
+			// after all the transitions at the second, as a not found one
+			while (index < localTransitions.length - 1 && localTransitions[index + 1] == localSecond) {
+				index++;
+			}
+			index = -index - 2;
+		}
 		if (index == -1) {
 			// before first transition
 			return wallOffsets[0];
@@ -379,58 +422,106 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 		if (index < 0) {
 			// switch negative insert position to start of matched range
 			index = -index - 2;
-		} else if (index < savingsLocalTransitions.length - 1 &&
-				savingsLocalTransitions[index].equals(savingsLocalTransitions[index + 1])) {
+		} else if (index < localTransitions.length - 1 &&
+				localTransitions[index] == localTransitions[index + 1]) {
 			// handle overlap immediately following gap
 			index++;
 		}
 		if ((index & 1) == 0) {
 			// gap or overlap
-			LocalDateTime dtBefore = savingsLocalTransitions[index];
-			LocalDateTime dtAfter = savingsLocalTransitions[index + 1];
 			ZoneOffset offsetBefore = wallOffsets[index / 2];
 			ZoneOffset offsetAfter = wallOffsets[index / 2 + 1];
-			if (offsetAfter.getTotalSeconds() > offsetBefore.getTotalSeconds()) {
-				// gap
-				return new ZoneOffsetTransition(dtBefore, offsetBefore, offsetAfter);
-			} else {
-				// overlap
-				return new ZoneOffsetTransition(dtAfter, offsetBefore, offsetAfter);
-			}
+			return new ZoneOffsetTransition(savingsInstantTransitions[index / 2], offsetBefore, offsetAfter);
 		} else {
 			// normal (neither gap or overlap)
 			return wallOffsets[index / 2 + 1];
 		}
 	}
 
+	/**
+	 * Checks if the local date-time is after the local transition.
+	 *
+	 * @param localSecond
+	 *                        the local date-time as the epoch second in UTC
+	 * @param nanos
+	 *                        true if the local date-time has the nano of
+	 *                        second
+	 * @param localTransition
+	 *                        the local transition as the epoch second in UTC
+	 * @return true if the local date-time is after the transition
+	 */
+	// GWT specific
+	private static boolean isAfter(long localSecond, boolean nanos, long localTransition) {
+		return localSecond > localTransition || (nanos && localSecond == localTransition);
+	}
+
+	/**
+	 * Finds the transitions between local date-times, creates them on the first
+	 * call.
+	 * <p>
+	 * The transition {@code i} is a pair of the local epoch seconds at the
+	 * indices {@code 2 * i} and {@code 2 * i + 1}: the start and the end of the
+	 * gap, or the start and the end of the overlap.
+	 *
+	 * @return the local transitions, not null, not to be modified
+	 */
+	// GWT specific
+	private long[] findLocalTransitions() {
+		long[] localTransitions = savingsLocalTransitions;
+		if (localTransitions == null) {
+			long[] instantTransitions = savingsInstantTransitions;
+			localTransitions = new long[instantTransitions.length * 2];
+			for (int i = 0; i < instantTransitions.length; i++) {
+				long localBefore = instantTransitions[i] + wallOffsets[i].getTotalSeconds();
+				long localAfter = instantTransitions[i] + wallOffsets[i + 1].getTotalSeconds();
+				localTransitions[i * 2] = Math.min(localBefore, localAfter);
+				localTransitions[i * 2 + 1] = Math.max(localBefore, localAfter);
+			}
+			savingsLocalTransitions = localTransitions;
+		}
+		return localTransitions;
+	}
+
 	/**
 	 * Finds the offset info for a local date-time and transition.
+	 * <p>
+	 * The transition object is only created for the gap or overlap.
 	 *
-	 * @param dt
-	 *                  the date-time, not null
-	 * @param trans
-	 *                  the transition, not null
+	 * @param localSecond
+	 *                        the local date-time as the epoch second in UTC,
+	 *                        the nanos are not relevant as the transitions
+	 *                        are whole seconds
+	 * @param transEpochSecond
+	 *                        the transition epoch second
+	 * @param offsetBefore
+	 *                        the offset before the transition, not null
+	 * @param offsetAfter
+	 *                        the offset after the transition, not null
 	 * @return the offset info, not null
 	 */
-	private Object findOffsetInfo(LocalDateTime dt, ZoneOffsetTransition trans) {
-		LocalDateTime localTransition = trans.getDateTimeBefore();
-		if (trans.isGap()) {
-			if (dt.isBefore(localTransition)) {
-				return trans.getOffsetBefore();
+	// GWT specific
+	private static Object findOffsetInfo(long localSecond, long transEpochSecond, ZoneOffset offsetBefore, ZoneOffset offsetAfter) {
+		long localBefore = transEpochSecond + offsetBefore.getTotalSeconds();
+		long localAfter = transEpochSecond + offsetAfter.getTotalSeconds();
+		if (localAfter > localBefore) {
+			// gap
+			if (localSecond < localBefore) {
+				return offsetBefore;
 			}
-			if (dt.isBefore(trans.getDateTimeAfter())) {
-				return trans;
+			if (localSecond < localAfter) {
+				return new ZoneOffsetTransition(transEpochSecond, offsetBefore, offsetAfter);
 			} else {
-				return trans.getOffsetAfter();
+				return offsetAfter;
 			}
 		} else {
-			if (dt.isBefore(localTransition) == false) {
-				return trans.getOffsetAfter();
+			// overlap
+			if (localSecond >= localBefore) {
+				return offsetAfter;
 			}
-			if (dt.isBefore(trans.getDateTimeAfter())) {
-				return trans.getOffsetBefore();
+			if (localSecond < localAfter) {
+				return offsetBefore;
 			} else {
-				return trans;
+				return new ZoneOffsetTransition(transEpochSecond, offsetBefore, offsetAfter);
 			}
 		}
 	}
@@ -442,25 +533,39 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 
 	// -----------------------------------------------------------------------
 	/**
-	 * Finds the appropriate transition array for the given year.
+	 * Finds the transitions (epoch seconds) of the last rules for the given year.
+	 * <p>
+	 * The transitions of the years before {@link #LAST_CACHED_YEAR} are kept in a
+	 * table indexed by the year, the transition {@code i} is between the offsets
+	 * of the last rule {@code i}.
 	 *
 	 * @param year
 	 *                 the year, not null
-	 * @return the transition array, not null
+	 * @return the transition epoch seconds, not null, not to be modified
 	 */
-	private ZoneOffsetTransition[] findTransitionArray(int year) {
-		Integer yearObj = year; // should use Year class, but this saves a class load
-		ZoneOffsetTransition[] transArray = lastRulesCache.get(yearObj);
+	// GWT specific
+	private long[] findTransitionEpochSeconds(int year) {
+		long[][] table = lastRulesTransitions;
+		if (table == null) {
+			// the last rules are only used after the historic transitions
+			int firstYear = savingsInstantTransitions.length == 0 ? FIRST_CACHED_YEAR
+					: findYear(savingsInstantTransitions[savingsInstantTransitions.length - 1], wallOffsets[wallOffsets.length - 1]);
+			table = new long[Math.max(LAST_CACHED_YEAR - firstYear, 0)][];
+			lastRulesFirstYear = firstYear;
+			lastRulesTransitions = table;
+		}
+		int index = year - lastRulesFirstYear;
+		long[] transArray = index >= 0 && index < table.length ? table[index] : null;
 		if (transArray != null) {
 			return transArray;
 		}
 		ZoneOffsetTransitionRule[] ruleArray = lastRules;
-		transArray = new ZoneOffsetTransition[ruleArray.length];
+		transArray = new long[ruleArray.length];
 		for (int i = 0; i < ruleArray.length; i++) {
-			transArray[i] = ruleArray[i].createTransition(year);
+			transArray[i] = ruleArray[i].createTransitionEpochSecond(year);
 		}
-		if (year < LAST_CACHED_YEAR) {
-			lastRulesCache.putIfAbsent(yearObj, transArray);
+		if (index >= 0 && index < table.length) {
+			table[index] = transArray;
 		}
 		return transArray;
 	}
@@ -505,16 +610,16 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 			}
 			// search year the instant is in
 			int year = findYear(epochSec, wallOffsets[wallOffsets.length - 1]);
-			ZoneOffsetTransition[] transArray = findTransitionArray(year);
-			for (ZoneOffsetTransition trans : transArray) {
-				if (epochSec < trans.toEpochSecond()) {
-					return trans;
+			long[] transArray = findTransitionEpochSeconds(year);
+			for (int i = 0; i < transArray.length; i++) {
+				if (epochSec < transArray[i]) {
+					return createTransition(transArray, i);
 				}
 			}
 			// use first from following year
 			if (year < Year.MAX_VALUE) {
-				transArray = findTransitionArray(year + 1);
-				return transArray[0];
+				transArray = findTransitionEpochSeconds(year + 1);
+				return createTransition(transArray, 0);
 			}
 			return null;
 		}
@@ -546,17 +651,17 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 			// search year the instant is in
 			ZoneOffset lastHistoricOffset = wallOffsets[wallOffsets.length - 1];
 			int year = findYear(epochSec, lastHistoricOffset);
-			ZoneOffsetTransition[] transArray = findTransitionArray(year);
+			long[] transArray = findTransitionEpochSeconds(year);
 			for (int i = transArray.length - 1; i >= 0; i--) {
-				if (epochSec > transArray[i].toEpochSecond()) {
-					return transArray[i];
+				if (epochSec > transArray[i]) {
+					return createTransition(transArray, i);
 				}
 			}
 			// use last from preceeding year
 			int lastHistoricYear = findYear(lastHistoric, lastHistoricOffset);
 			if (--year > lastHistoricYear) {
-				transArray = findTransitionArray(year);
-				return transArray[transArray.length - 1];
+				transArray = findTransitionEpochSeconds(year);
+				return createTransition(transArray, transArray.length - 1);
 			}
 			// drop through
 		}
@@ -572,11 +677,32 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 		return new ZoneOffsetTransition(savingsInstantTransitions[index - 1], wallOffsets[index - 1], wallOffsets[index]);
 	}
 
+	// GWT specific
+	private ZoneOffsetTransition createTransition(long[] transArray, int index) {
+		ZoneOffsetTransitionRule rule = lastRules[index];
+		return new ZoneOffsetTransition(transArray[index], rule.getOffsetBefore(), rule.getOffsetAfter());
+	}
+
 	private int findYear(long epochSecond, ZoneOffset offset) {
 		// inline for performance
 		long localSecond = epochSecond + offset.getTotalSeconds();
 		long localEpochDay = Math.floorDiv(localSecond, 86400);
-		return LocalDate.ofEpochDay(localEpochDay).getYear();
+		// GWT specific - the year part of LocalDate.ofEpochDay() without the instance
+		long zeroDay = localEpochDay + LocalDate.DAYS_0000_TO_1970 - 60;
+		long adjust = 0;
+		if (zeroDay < 0) {
+			long adjustCycles = (zeroDay + 1) / DAYS_PER_CYCLE - 1;
+			adjust = adjustCycles * 400;
+			zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+		}
+		long yearEst = (400 * zeroDay + 591) / DAYS_PER_CYCLE;
+		long doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+		if (doyEst < 0) {
+			yearEst--;
+			doyEst = zeroDay - (365 * yearEst + yearEst / 4 - yearEst / 100 + yearEst / 400);
+		}
+		int marchMonth0 = ((int) doyEst * 5 + 2) / 153;
+		return (int) (yearEst + adjust + marchMonth0 / 10);
 	}
 
 	// -------------------------------------------------------------------------
@@ -634,4 +760,22 @@ public final class StandardZoneRules extends ZoneRules implements Serializable {
 		return "StandardZoneRules[currentStandardOffset=" + standardOffsets[standardOffsets.length - 1] + "]";
 	}
 
+	// -----------------------------------------------------------------------
+	/**
+	 * The offset for the epoch seconds from {@code start} inclusive to
+	 * {@code end} exclusive.
+	 */
+	// GWT specific
+	static final class OffsetRange {
+		final long start;
+		final long end;
+		final ZoneOffset offset;
+
+		OffsetRange(long start, long end, ZoneOffset offset) {
+			this.start = start;
+			this.end = end;
+			this.offset = offset;
+		}
+	}
+
 }
@@ -0,0 +1,167 @@
+package org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.zone;
+
+import java.util.Objects;
+
+import org.jresearch.gwt.tool.emu.apt.annotation.Wrap;
+import org.jresearch.threetenbp.gwt.emu.java.time.Instant;
+import org.jresearch.threetenbp.gwt.emu.java.time.ZoneId;
+import org.jresearch.threetenbp.gwt.emu.java.time.ZoneOffset;
+import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneOffsetTransition;
+import org.jresearch.threetenbp.gwt.emu.java.time.zone.ZoneRules;
+
+/**
+ * Cursor over the offsets of a zone, optimized for the instants in the
+ * ascending order.
+ * <p>
+ * The cursor remembers the offset and the range of the instants it is valid
+ * for. While the instants stay in the range the offset is returned without a
+ * lookup, when an instant passes the end of the range the cursor walks forward
+ * to the following ranges ({@link StandardZoneRules} only). A jump backward or
+ * far forward falls back to a full lookup in the rules.
+ * <p>
+ * Sample usage:
+ *
+ * <pre>
+ * ZoneOffsetCursor cursor = ZoneOffsetCursor.of(ZoneId.of("Europe/Paris"));
+ * for (Instant instant : sortedInstants) {
+ * 	ZoneOffset offset = cursor.getOffset(instant);
+ * }
+ * </pre>
+ *
+ * <h3>Specification for implementors</h3> This class is mutable and not
+ * thread-safe.
+ */
+// GWT Specific
+@Wrap("org.jresearch.threetenbp.gwt.emu")
+public final class ZoneOffsetCursor {
+
+	/**
+	 * The number of ranges to walk forward before the full lookup.
+	 */
+	private static final int MAX_STEPS = 4;
+
+	/**
+	 * The rules, not null.
+	 */
+	private final ZoneRules rules;
+	/**
+	 * The rules if they are standard ones, null otherwise.
+	 */
+	private final StandardZoneRules standardRules;
+	/**
+	 * The first epoch second of the current offset, inclusive.
+	 */
+	private long start = Long.MAX_VALUE;
+	/**
+	 * The last epoch second of the current offset, exclusive.
+	 */
+	private long end = Long.MIN_VALUE;
+	/**
+	 * The current offset, null before the first lookup.
+	 */
+	private ZoneOffset offset;
+
+	private ZoneOffsetCursor(ZoneRules rules) {
+		this.rules = rules;
+		this.standardRules = rules instanceof StandardZoneRules ? (StandardZoneRules) rules : null;
+	}
+
+	/**
+	 * Obtains a cursor over the rules.
+	 *
+	 * @param rules
+	 *                  the rules, not null
+	 * @return the cursor, not null
+	 */
+	public static ZoneOffsetCursor of(ZoneRules rules) {
+		Objects.requireNonNull(rules, "rules");
+		return new ZoneOffsetCursor(rules);
+	}
+
+	/**
+	 * Obtains a cursor over the rules of the zone.
+	 *
+	 * @param zone
+	 *                 the zone, not null
+	 * @return the cursor, not null
+	 */
+	public static ZoneOffsetCursor of(ZoneId zone) {
+		Objects.requireNonNull(zone, "zone");
+		return new ZoneOffsetCursor(zone.getRules());
+	}
+
+	/**
+	 * Gets the rules of the cursor.
+	 *
+	 * @return the rules, not null
+	 */
+	public ZoneRules getRules() {
+		return rules;
+	}
+
+	/**
+	 * Gets the offset at the instant and moves the cursor to it.
+	 *
+	 * @param instant
+	 *                    the instant, not null
+	 * @return the offset, not null
+	 * @see ZoneRules#getOffset(Instant)
+	 */
+	public ZoneOffset getOffset(Instant instant) {
+		return getOffset(instant.getEpochSecond());
+	}
+
+	/**
+	 * Gets the offset at the epoch second and moves the cursor to it.
+	 *
+	 * @param epochSecond
+	 *                        the epoch second
+	 * @return the offset, not null
+	 * @see ZoneRules#getOffset(Instant)
+	 */
+	public ZoneOffset getOffset(long epochSecond) {
+		if (epochSecond >= start && epochSecond < end) {
+			return offset;
+		}
+		if (standardRules != null) {
+			// the ranges follow each other, walk forward
+			for (int i = 0; offset != null && i < MAX_STEPS && epochSecond >= end && end != Long.MAX_VALUE; i++) {
+				setRange(standardRules.findOffsetRange(end));
+			}
+			if (epochSecond < start || epochSecond >= end) {
+				setRange(standardRules.findOffsetRange(epochSecond));
+			}
+			return offset;
+		}
+		seek(epochSecond);
+		return offset;
+	}
+
+	/**
+	 * Gets the end of the range of the current offset.
+	 *
+	 * @return the epoch second the current offset is valid before,
+	 *         {@code Long.MIN_VALUE} before the first lookup,
+	 *         {@code Long.MAX_VALUE} if it is the last offset
+	 */
+	public long getRangeEnd() {
+		return end;
+	}
+
+	private void setRange(StandardZoneRules.OffsetRange range) {
+		start = range.start;
+		end = range.end;
+		offset = range.offset;
+	}
+
+	private void seek(long epochSecond) {
+		Instant instant = Instant.ofEpochSecond(epochSecond);
+		offset = rules.getOffset(instant);
+		// the previous transition at or before the instant
+		ZoneOffsetTransition previous = rules.previousTransition(Instant.ofEpochSecond(epochSecond, 1));
+		start = previous == null ? Long.MIN_VALUE : previous.toEpochSecond();
+		ZoneOffsetTransition next = rules.nextTransition(instant);
+		end = next == null ? Long.MAX_VALUE : next.toEpochSecond();
+	}
+
+}
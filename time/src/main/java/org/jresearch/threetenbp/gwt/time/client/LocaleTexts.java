@@ -0,0 +1,18 @@
+package org.jresearch.threetenbp.gwt.time.client;
+
+import static jsinterop.annotations.JsPackage.GLOBAL;
+
+import jsinterop.annotations.JsType;
+
+/**
+ * Texts of a locale. Each field is indexed by the text style ordinal (full,
+ * full standalone, short, short standalone, narrow, narrow standalone), a
+ * missing style is null.
+ */
+@JsType(isNative = true, namespace = GLOBAL, name = "Object")
+public class LocaleTexts {
+	public String[][] months;
+	public String[][] weekdays;
+	public String[][] eras;
+	public String[][] dayPeriods;
+}
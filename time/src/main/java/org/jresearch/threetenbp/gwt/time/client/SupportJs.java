@@ -11,9 +11,17 @@ import jsinterop.annotations.JsType;
 @JsType(isNative = true, namespace = GLOBAL, name = "support")
 public class SupportJs {
 
-	@Nonnull
+	/**
+	 * The epoch millis with the fraction, as precise as performance.now()
+	 */
 	@JsMethod(namespace = JsPackage.GLOBAL)
-	public static native float getTimestamp();
+	public static native double getTimestamp();
+
+	/**
+	 * Monotonic millis with the fraction, from performance.now()
+	 */
+	@JsMethod(namespace = JsPackage.GLOBAL)
+	public static native double getElapsed();
 
 	@Nonnull
 	@JsMethod(namespace = JsPackage.GLOBAL)
@@ -27,6 +35,19 @@ public class SupportJs {
 	@JsMethod(namespace = JsPackage.GLOBAL)
 	public static native void sleep(int milliseconds);
 
+	/**
+	 * Calls the callback once before the next repaint, or after 16 ms without
+	 * requestAnimationFrame
+	 */
+	@JsMethod(namespace = JsPackage.GLOBAL)
+	public static native void onNextFrame(TimerCallback callback);
+
+	/**
+	 * Calls the callback once after the delay
+	 */
+	@JsMethod(namespace = JsPackage.GLOBAL)
+	public static native void onTimeout(TimerCallback callback, int milliseconds);
+
 	/**
 	 * @param style  - "short", "long"
 	 * @param locale - language tag
@@ -67,6 +88,15 @@ public class SupportJs {
 	@JsMethod(namespace = JsPackage.GLOBAL)
 	public static native String[] displayAmpm(String style, String locale);
 
+	/**
+	 * Months, weekdays, eras and day periods of all the styles in one call
+	 *
+	 * @param locale - language tag
+	 */
+	@Nonnull
+	@JsMethod(namespace = JsPackage.GLOBAL)
+	public static native LocaleTexts displayTexts(String locale);
+
 	@Nonnull
 	@JsMethod(namespace = JsPackage.GLOBAL)
 	public static native DecimalProperty displayNumber(String locale);
@@ -79,4 +109,25 @@ public class SupportJs {
 	@JsMethod(namespace = JsPackage.GLOBAL)
 	public static native String[] supportedLocalesOfNumberFormat(String[] locales);
 
+	/**
+	 * @return number of the Intl instances and supported locales reused from the cache
+	 */
+	@JsMethod(namespace = JsPackage.GLOBAL)
+	public static native int getIntlCacheHits();
+
+	/**
+	 * @return number of the Intl instances and supported locales created for the cache
+	 */
+	@JsMethod(namespace = JsPackage.GLOBAL)
+	public static native int getIntlCacheMisses();
+
+	@JsMethod(namespace = JsPackage.GLOBAL)
+	public static native void clearIntlCache();
+
+	/**
+	 * Drops the cached default Intl.DateTimeFormat, the next {@link #getTimezone()} sees the current system zone
+	 */
+	@JsMethod(namespace = JsPackage.GLOBAL)
+	public static native void refreshTimezone();
+
 }
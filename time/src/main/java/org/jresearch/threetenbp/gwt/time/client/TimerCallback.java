@@ -0,0 +1,11 @@
+package org.jresearch.threetenbp.gwt.time.client;
+
+import jsinterop.annotations.JsFunction;
+
+/**
+ * Function called by the browser from a timer or an animation frame.
+ */
+@JsFunction
+public interface TimerCallback {
+	void onTimer();
+}
@@ -1,5 +1,7 @@
 package org.jresearch.threetenbp.gwt.time.client.zone;
 
+import com.google.gwt.core.client.Callback;
+
 public interface GwtZoneRuleProvider {
 
 	String getProviderId();
@@ -8,4 +10,20 @@ public interface GwtZoneRuleProvider {
 
 	void initialize();
 
+	/**
+	 * Initializes the provider without blocking the caller. The default
+	 * implementation falls back to the synchronous {@link #initialize()}.
+	 *
+	 * @param callback notified when the provider is ready or failed to load, not null
+	 */
+	default void initializeAsync(Callback<Void, Throwable> callback) {
+		try {
+			initialize();
+		} catch (RuntimeException e) {
+			callback.onFailure(e);
+			return;
+		}
+		callback.onSuccess(null);
+	}
+
 }
@@ -1,20 +1,119 @@
-if (window.performance.now) {
-    getTimestamp = function() { return window.performance.timing.navigationStart + window.performance.now(); };
+// least recently used entries are evicted over the limit
+var INTL_CACHE_SIZE = 256;
+var intlCache = new Map();
+// a formatter per time zone has its own bound, the zone name index walks all the zones and must not evict the rest
+var ZONE_INTL_CACHE_SIZE = 64;
+var zoneIntlCache = new Map();
+var intlCacheHits = 0;
+var intlCacheMisses = 0;
+
+function intlCacheGet(cache, key) {
+	const result = cache.get(key);
+	if (result !== undefined) {
+		// move to the most recently used end
+		cache.delete(key);
+		cache.set(key, result);
+	}
+	return result;
+}
+
+function intlCachePut(cache, size, key, value) {
+	cache.set(key, value);
+	if (cache.size > size) {
+		cache.delete(cache.keys().next().value);
+	}
+}
+
+// Intl instances are expensive to construct, keep them by the type, locale and options
+function intlKey(type, locale, options) {
+	return type + '|' + locale + '|' + JSON.stringify(options);
+}
+
+function cachedIntl(type, locale, options) {
+	const key = intlKey(type, locale, options);
+	var result = intlCacheGet(intlCache, key);
+	if (result === undefined) {
+		intlCacheMisses++;
+		result = type === 'NumberFormat' ? new Intl.NumberFormat(locale, options) : new Intl.DateTimeFormat(locale, options);
+		intlCachePut(intlCache, INTL_CACHE_SIZE, key, result);
+	} else {
+		intlCacheHits++;
+	}
+	return result;
+}
+
+// DateTimeFormat printing the name of the time zone, kept apart from the other Intl instances
+function cachedZoneIntl(locale, timeZone, style) {
+	const key = locale + '|' + timeZone + '|' + style;
+	var result = intlCacheGet(zoneIntlCache, key);
+	if (result === undefined) {
+		intlCacheMisses++;
+		result = new Intl.DateTimeFormat(locale, { timeZone: timeZone, timeZoneName: style });
+		intlCachePut(zoneIntlCache, ZONE_INTL_CACHE_SIZE, key, result);
+	} else {
+		intlCacheHits++;
+	}
+	return result;
+}
+
+// supportedLocalesOf results by the type and the requested locales
+function cachedSupportedLocalesOf(type, locales) {
+	const key = 'supportedLocalesOf|' + type + '|' + locales.join(',');
+	var result = intlCacheGet(intlCache, key);
+	if (result === undefined) {
+		intlCacheMisses++;
+		result = type === 'NumberFormat' ? Intl.NumberFormat.supportedLocalesOf(locales, { localeMatcher: 'lookup' }) : Intl.DateTimeFormat.supportedLocalesOf(locales, { localeMatcher: 'lookup' });
+		intlCachePut(intlCache, INTL_CACHE_SIZE, key, result);
+	} else {
+		intlCacheHits++;
+	}
+	return result.slice();
+}
+
+getIntlCacheHits = function() { return intlCacheHits; };
+
+getIntlCacheMisses = function() { return intlCacheMisses; };
+
+clearIntlCache = function() {
+	intlCache.clear();
+	zoneIntlCache.clear();
+	intlCacheHits = 0;
+	intlCacheMisses = 0;
+};
+
+if (window.performance && window.performance.now) {
+    // the epoch millis with the fraction, timeOrigin is more precise than navigationStart
+    var timeOrigin = window.performance.timeOrigin || window.performance.timing.navigationStart;
+    getTimestamp = function() { return timeOrigin + window.performance.now(); };
+    // monotonic millis, not affected by the system clock changes
+    getElapsed = function() { return window.performance.now(); };
 } else {
     getTimestamp = function() { return new Date().getTime(); };
+    getElapsed = function() { return new Date().getTime(); };
 }
 
 if (typeof Intl == 'object' && typeof Intl.DateTimeFormat == 'function'  && typeof Intl.DateTimeFormat().resolvedOptions == 'function') {
-	getTimezone = function() { return Intl.DateTimeFormat().resolvedOptions().timeZone; };
+	getTimezone = function() { return cachedIntl('DateTimeFormat', undefined, undefined).resolvedOptions().timeZone; };
 } else {
 	getTimezone = function() { return new Date().toTimeString().slice(9, 17); };
 }
 
 getMinutesOffset = function() { return -(new Date().getTimezoneOffset()); };
 
+if (typeof requestAnimationFrame == 'function') {
+	onNextFrame = function(callback) { requestAnimationFrame(function() { callback(); }); };
+} else {
+	onNextFrame = function(callback) { setTimeout(callback, 16); };
+}
+
+onTimeout = function(callback, milliseconds) { setTimeout(callback, milliseconds); };
+
+// the default DateTimeFormat keeps the zone it was created in, drop it to see a changed system zone
+refreshTimezone = function() { intlCache.delete(intlKey('DateTimeFormat', undefined, undefined)); };
+
 if (typeof Intl == 'object' && typeof Intl.DateTimeFormat == 'function'  && typeof Intl.DateTimeFormat.supportedLocalesOf == 'function') {
 	supportedLocalesOfDateTimeFormat = function(locales) {
-		return Intl.DateTimeFormat.supportedLocalesOf(locales, { localeMatcher: 'lookup' });
+		return cachedSupportedLocalesOf('DateTimeFormat', locales);
 	};
 } else {
 	supportedLocalesOfDateTimeFormat = function(locales) {
@@ -24,7 +123,7 @@ if (typeof Intl == 'object' && typeof Intl.DateTimeFormat == 'function'  && type
 
 if (typeof Intl == 'object' && typeof Intl.NumberFormat == 'function'  && typeof Intl.NumberFormat.supportedLocalesOf == 'function') {
 	supportedLocalesOfNumberFormat = function(locales) {
-		return Intl.NumberFormat.supportedLocalesOf(locales, { localeMatcher: 'lookup' });
+		return cachedSupportedLocalesOf('NumberFormat', locales);
 	};
 } else {
 	supportedLocalesOfNumberFormat = function(locales) {
@@ -35,7 +134,7 @@ if (typeof Intl == 'object' && typeof Intl.NumberFormat == 'function'  && typeof
 if (typeof Intl == 'object' && typeof Intl.DateTimeFormat == 'function'  && typeof Intl.DateTimeFormat().formatToParts == 'function') {
 	displayTimeZone = function(daylight, timeZone, style, locale) {
 		try {
-			const region = new Intl.DateTimeFormat(locale, { timeZone: timeZone, timeZoneName: style });
+			const region = cachedZoneIntl(locale, timeZone, style);
 			const month = daylight ? 6 : 12;
 			const date = new Date(Date.UTC(2012, month, 20, 6, 0, 0));
 			return region.formatToParts(date).find(checkTimeZone).value;
@@ -54,7 +153,7 @@ if (typeof Intl == 'object' && typeof Intl.DateTimeFormat == 'function'  && type
 	displayMonths = function(style, standalone, locale) {
 		try {
 			var result = [];
-			const region = standalone ? new Intl.DateTimeFormat(locale, { month: style }) : new Intl.DateTimeFormat(locale, { month: style, day: 'numeric' });
+			const region = standalone ? cachedIntl('DateTimeFormat', locale, { month: style }) : cachedIntl('DateTimeFormat', locale, { month: style, day: 'numeric' });
 			for (i = 0; i < 12; i++) {
 				const date = new Date(Date.UTC(2020, i, 4, 6, 0, 0));
 				result.push(region.formatToParts(date).find(checkMonth).value);
@@ -82,7 +181,7 @@ if (typeof Intl == 'object' && typeof Intl.DateTimeFormat == 'function'  && type
 	displayWeekdays = function(style, standalone, locale) {
 		try {
 			var result = [];
-			const region = standalone ? new Intl.DateTimeFormat(locale, { weekday: style }) : new Intl.DateTimeFormat(locale, { weekday: style, day: 'numeric' });
+			const region = standalone ? cachedIntl('DateTimeFormat', locale, { weekday: style }) : cachedIntl('DateTimeFormat', locale, { weekday: style, day: 'numeric' });
 			for (i = 1; i <= 7; i++) {
 				const date = new Date(2020, 5, i, 12);
 				result.push(region.formatToParts(date).find(checkWeekday).value);
@@ -110,7 +209,7 @@ if (typeof Intl == 'object' && typeof Intl.DateTimeFormat == 'function'  && type
 	displayEras = function(style, locale) {
 		try {
 			var result = [];
-			const region = new Intl.DateTimeFormat(locale, { era: style });
+			const region = cachedIntl('DateTimeFormat', locale, { era: style });
 			var date = new Date(-99999999999999);
 			result.push(region.formatToParts(date).find(checkEra).value);
 			date = new Date(99999999999999);
@@ -138,7 +237,7 @@ if (typeof Intl == 'object' && typeof Intl.DateTimeFormat == 'function'  && type
 	displayAmpm = function(style, locale) {
 		try {
 			var result = [];
-			const region = new Intl.DateTimeFormat(locale, { timeStyle: style, hour12: true });
+			const region = cachedIntl('DateTimeFormat', locale, { timeStyle: style, hour12: true });
 			const date01 = new Date(Date.UTC(2020, 5, 4, 6, 0, 0));
 			result.push(region.formatToParts(date01).find(checkAmpm).value);
 			const date02 = new Date(Date.UTC(2020, 5, 4, 16, 0, 0));
@@ -159,7 +258,7 @@ if (typeof Intl == 'object' && typeof Intl.NumberFormat == 'function'  && typeof
 	displayNumber = function(locale) {
 		var result = new Object();
 		try {
-			const numFormat = new Intl.NumberFormat(locale, { signDisplay:'always' });
+			const numFormat = cachedIntl('NumberFormat', locale, { signDisplay:'always' });
 			result.zeroDigit = numFormat.formatToParts(0).find(checkZero).value;
 			//FF does not support signDisplay return +
 			var res = numFormat.formatToParts(1).find(checkPlus)
@@ -186,6 +285,22 @@ if (typeof Intl == 'object' && typeof Intl.NumberFormat == 'function'  && typeof
 	};
 }
 
+// all the texts of a locale by the text style (full, full standalone, short, short standalone, narrow, narrow standalone)
+displayTexts = function(locale) {
+	var result = new Object();
+	result.months = [
+		displayMonths("long", false, locale), displayMonths("long", true, locale),
+		displayMonths("short", false, locale), displayMonths("short", true, locale),
+		displayMonths("narrow", false, locale), displayMonths("narrow", true, locale)];
+	result.weekdays = [
+		displayWeekdays("long", false, locale), displayWeekdays("long", true, locale),
+		displayWeekdays("short", false, locale), displayWeekdays("short", true, locale),
+		displayWeekdays("narrow", false, locale), displayWeekdays("narrow", true, locale)];
+	result.eras = [displayEras("long", locale), null, displayEras("short", locale), null, displayEras("narrow", locale), null];
+	result.dayPeriods = [displayAmpm("full", locale), null, displayAmpm("short", locale), null, null, null];
+	return result;
+};
+
 function sleep(milliseconds) {
 	var start = getTimestamp();
 	var current = getTimestamp();
@@ -195,7 +310,7 @@ function sleep(milliseconds) {
 }
 
 function displayTimeZoneModern(daylight, timeZone, style, locale) {
-	const region = new Intl.DateTimeFormat(locale, { timeZone: timeZone, timeZoneName: style });
+	const region = cachedZoneIntl(locale, timeZone, style);
 	const month = daylight ? 6 : 12;
 	const date = new Date(Date.UTC(2012, month, 20, 6, 0, 0));
 	return region.formatToParts(date).find(checkType).value;
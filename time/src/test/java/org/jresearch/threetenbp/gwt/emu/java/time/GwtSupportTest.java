@@ -11,7 +11,7 @@ public class GwtSupportTest extends AbstractTest {
 
 	@Test
 	public void testGetTimestamp() {
-		final float timestamp = Support.getTimestamp();
+		final double timestamp = Support.getTimestamp();
 		assertTrue(timestamp > 0);
 	}
 
@@ -32,6 +32,18 @@ public class GwtSupportTest extends AbstractTest {
 		assertTrue("MEZ".equals(result) || timeZone.equals(result));
 	}
 
+	@Test
+	public void testIntlCache() {
+		Support.clearIntlCache();
+		String first = Support.displayTimeZone(false, "Europe/Prague", "long", "de-DE");
+		String second = Support.displayTimeZone(false, "Europe/Prague", "long", "de-DE");
+		assertEquals(first, second);
+		// no Intl support - nothing is cached
+		int misses = Support.getIntlCacheMisses();
+		assertTrue(misses <= 1);
+		assertEquals(misses, Support.getIntlCacheHits());
+	}
+
 	@Test
 	public void testSupportedLocalesOfDateTimeFormat() {
 		Locale[] test = new Locale[] { Locale.forLanguageTag("agq-CM"), Locale.forLanguageTag("de-DE") };
@@ -3,6 +3,7 @@ package org.jresearch.threetenbp.gwt.emu.java.time;
 import org.jresearch.threetenbp.gwt.emu.java.time.chrono.TestChronoLocalDate;
 import org.jresearch.threetenbp.gwt.emu.java.time.chrono.TestChronoLocalDateTime;
 import org.jresearch.threetenbp.gwt.emu.java.time.chrono.TestChronoZonedDateTime;
+import org.jresearch.threetenbp.gwt.emu.java.time.chrono.TestChronology_Async;
 import org.jresearch.threetenbp.gwt.emu.java.time.chrono.TestHijrahChronology;
 import org.jresearch.threetenbp.gwt.emu.java.time.chrono.TestIsoChronology;
 import org.jresearch.threetenbp.gwt.emu.java.time.chrono.TestJapaneseChronology;
@@ -15,8 +16,11 @@ import org.jresearch.threetenbp.gwt.emu.java.time.format.TestDateTimeFormatter;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.TestDateTimeFormatterBuilder;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.TestDateTimeFormatters;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.TestDateTimeParsing;
+import org.jresearch.threetenbp.gwt.emu.java.time.format.TestDateTimeParseCursor;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.TestDateTimeTextPrinting;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.TestDecimalStyle;
+import org.jresearch.threetenbp.gwt.emu.java.time.format.TestFieldValues;
+import org.jresearch.threetenbp.gwt.emu.java.time.format.TestFormatterCache;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.TestFractionPrinterParser;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.TestNumberParser;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.TestNumberPrinter;
@@ -31,6 +35,7 @@ import org.jresearch.threetenbp.gwt.emu.java.time.format.TestStringLiteralPrinte
 import org.jresearch.threetenbp.gwt.emu.java.time.format.TestTextParser;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.TestTextPrinter;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.TestZoneIdParser;
+import org.jresearch.threetenbp.gwt.emu.java.time.format.TestZoneTextParser;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.TestZoneOffsetParser;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.TestZoneOffsetPrinter;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TestChronoField;
@@ -44,6 +49,7 @@ import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TestYear;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TestYearMonth;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.TestFixedZoneRules;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.TestStandardZoneRules;
+import org.jresearch.threetenbp.gwt.emu.java.time.zone.TestZoneOffsetCursor;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.TestZoneOffsetTransition;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.TestZoneOffsetTransitionRule;
 import org.jresearch.threetenbp.gwt.emu.java.time.zone.TestZoneRulesProvider;
@@ -65,6 +71,8 @@ public class GwtTreetenBpSuite {
 		suite.addTestSuite(TestClock_Offset.class);
 		suite.addTestSuite(TestClock_System.class);
 		suite.addTestSuite(TestClock_Tick.class);
+		suite.addTestSuite(TestClock_Coarse.class);
+		suite.addTestSuite(TestClock_HighResolution.class);
 		suite.addTestSuite(TestDayOfWeek.class);
 		suite.addTestSuite(TestLocalDate.class);
 		suite.addTestSuite(TestLocalTime.class);
@@ -89,6 +97,7 @@ public class GwtTreetenBpSuite {
 		suite.addTestSuite(TestJapaneseChronology.class);
 		suite.addTestSuite(TestMinguoChronology.class);
 		suite.addTestSuite(TestThaiBuddhistChronology.class);
+		suite.addTestSuite(TestChronology_Async.class);
 		suite.addTestSuite(TestChronoField.class);
 		suite.addTestSuite(TestChronoUnit.class);
 		suite.addTestSuite(TestIsoFields.class);
@@ -100,6 +109,7 @@ public class GwtTreetenBpSuite {
 		suite.addTestSuite(TestYearMonth.class);
 		suite.addTestSuite(TestFixedZoneRules.class);
 		suite.addTestSuite(TestStandardZoneRules.class);
+		suite.addTestSuite(TestZoneOffsetCursor.class);
 		suite.addTestSuite(TestZoneOffsetTransition.class);
 		suite.addTestSuite(TestZoneOffsetTransitionRule.class);
 		//// suite.addTestSuite(TestZoneRulesBuilder.class);
@@ -122,13 +132,17 @@ public class GwtTreetenBpSuite {
 		suite.addTestSuite(TestTextPrinter.class);
 		suite.addTestSuite(TestSettingsParser.class);
 		suite.addTestSuite(TestZoneIdParser.class);
+		suite.addTestSuite(TestZoneTextParser.class);
 		suite.addTestSuite(TestSimpleDateTimeTextProvider.class);
 		suite.addTestSuite(TestDateTimeFormatters.class);
 		suite.addTestSuite(TestDateTimeBuilderCombinations.class);
 		suite.addTestSuite(TestDateTimeFormatterBuilder.class);
 		suite.addTestSuite(TestDateTimeParsing.class);
+		suite.addTestSuite(TestDateTimeParseCursor.class);
 		suite.addTestSuite(TestDateTimeTextPrinting.class);
 		suite.addTestSuite(TestDecimalStyle.class);
+		suite.addTestSuite(TestFieldValues.class);
+		suite.addTestSuite(TestFormatterCache.class);
 		// $JUnit-END$
 		return suite;
 	}
@@ -0,0 +1,160 @@
+package org.jresearch.threetenbp.gwt.emu.java.time;
+
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.Clocks;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.Support;
+import org.jresearch.threetenbp.gwt.time.client.TimerCallback;
+import org.junit.Test;
+
+/**
+ * Test frame and coarse clocks.
+ */
+public class TestClock_Coarse extends AbstractTest {
+
+	private static final ZoneId PLUS_ONE = ZoneOffset.ofHours(1);
+	private static final ZoneId PLUS_THREE = ZoneOffset.ofHours(3);
+
+	/** Base clock moving one second per read. */
+	private static class CountingClock extends Clock {
+		private final ZoneId zone;
+		private int reads;
+
+		CountingClock(ZoneId zone) {
+			this.zone = zone;
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return zone;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return new CountingClock(zone) {
+				@Override
+				public Instant instant() {
+					return CountingClock.this.instant();
+				}
+			};
+		}
+
+		@Override
+		public Instant instant() {
+			return Instant.ofEpochSecond(++reads);
+		}
+	}
+
+	@Test
+	public void test_frame_sampledOnce() {
+		CountingClock base = new CountingClock(PLUS_ONE);
+		Clock test = Clocks.frame(base);
+		Instant first = test.instant();
+		for (int i = 0; i < 100; i++) {
+			assertSame(first, test.instant());
+			assertEquals(first.toEpochMilli(), test.millis());
+		}
+		assertEquals(1, base.reads);
+		assertEquals(PLUS_ONE, test.getZone());
+	}
+
+	@Test
+	public void test_coarse_sampledOnce() {
+		CountingClock base = new CountingClock(PLUS_ONE);
+		Clock test = Clocks.coarse(base, Duration.ofMillis(100));
+		Instant first = test.instant();
+		assertSame(first, test.instant());
+		assertEquals(Instant.ofEpochSecond(1), first);
+		assertEquals(1, base.reads);
+	}
+
+	@Test
+	public void test_coarse_sampledAgain() {
+		CountingClock base = new CountingClock(PLUS_ONE);
+		Clock test = Clocks.coarse(base, Duration.ofMillis(50));
+		Instant first = test.instant();
+		assertEquals(1, base.reads);
+		delayTestFinish(10000);
+		// the sample is older than the interval when the callback runs
+		Support.onTimeout(new TimerCallback() {
+			@Override
+			public void onTimer() {
+				Instant second = test.instant();
+				assertEquals(2, base.reads);
+				assertTrue(second.isAfter(first));
+				assertSame(second, test.instant());
+				finishTest();
+			}
+		}, 100);
+	}
+
+	@Test
+	public void test_frame_sampledAgainWithoutFrame() {
+		CountingClock base = new CountingClock(PLUS_ONE);
+		Clock test = Clocks.frame(base);
+		Instant first = test.instant();
+		// no animation frame runs while the script sleeps, as in a hidden tab
+		Support.sleep(120);
+		Instant second = test.instant();
+		assertEquals(2, base.reads);
+		assertTrue(second.isAfter(first));
+	}
+
+	@Test
+	public void test_withZone_sharesSample() {
+		CountingClock base = new CountingClock(PLUS_ONE);
+		Clock test = Clocks.frame(base);
+		Clock moscow = test.withZone(PLUS_THREE);
+		assertEquals(PLUS_THREE, moscow.getZone());
+		assertSame(test, test.withZone(PLUS_ONE));
+		assertSame(moscow.instant(), test.instant());
+		assertEquals(1, base.reads);
+	}
+
+	@Test
+	public void test_coarse_invalidInterval() {
+		for (Duration interval : new Duration[] { Duration.ZERO, Duration.ofNanos(999_999), Duration.ofMillis(-1), Duration.ofDays(30) }) {
+			try {
+				Clocks.coarse(Clock.systemUTC(), interval);
+				fail("Missing exception " + interval);
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+	}
+
+	@Test
+	public void test_null() {
+		try {
+			Clocks.frame(null);
+			fail("Missing exception");
+		} catch (NullPointerException e) {
+			// expected
+		}
+		try {
+			Clocks.coarse(Clock.systemUTC(), null);
+			fail("Missing exception");
+		} catch (NullPointerException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void test_equals_toString() {
+		Clock a = Clocks.coarse(Clock.systemUTC(), Duration.ofMillis(250));
+		Clock b = Clocks.coarse(Clock.systemUTC(), Duration.ofMillis(250));
+		assertEquals(a, b);
+		assertEquals(a.hashCode(), b.hashCode());
+		assertFalse(a.equals(Clocks.frame(Clock.systemUTC())));
+		assertFalse(a.equals(Clock.systemUTC()));
+		assertEquals("CoarseClock[SystemClock[Z],PT0.25S]", a.toString());
+		assertEquals("CoarseClock[SystemClock[Z],frame]", Clocks.frame(Clock.systemUTC()).toString());
+	}
+
+	@Test
+	public void test_systemUTC() {
+		Clock test = Clocks.frame(Clock.systemUTC());
+		long before = System.currentTimeMillis();
+		long millis = test.millis();
+		assertTrue(millis >= before - 1000 && millis <= System.currentTimeMillis());
+	}
+
+}
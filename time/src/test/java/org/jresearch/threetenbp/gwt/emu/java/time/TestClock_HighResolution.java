@@ -0,0 +1,75 @@
+package org.jresearch.threetenbp.gwt.emu.java.time;
+
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.Clocks;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.Stopwatch;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.Support;
+import org.junit.Test;
+
+/**
+ * Test high resolution clock and stopwatch.
+ */
+public class TestClock_HighResolution extends AbstractTest {
+
+	private static final ZoneId PARIS = ZoneId.of("Europe/Paris");
+
+	@Test
+	public void test_instant() {
+		Clock system = Clock.systemUTC();
+		Clock test = Clocks.highResolution(ZoneOffset.UTC);
+		for (int i = 0; i < 100; i++) {
+			Instant instant = test.instant();
+			// whole microseconds
+			assertEquals(0, instant.getNano() % 1000);
+			long diff = Math.abs(instant.toEpochMilli() - system.millis());
+			assertTrue("diff " + diff, diff < 1000);
+		}
+	}
+
+	@Test
+	public void test_millis() {
+		Clock test = Clocks.highResolution(ZoneOffset.UTC);
+		long diff = Math.abs(test.millis() - System.currentTimeMillis());
+		assertTrue("diff " + diff, diff < 1000);
+	}
+
+	@Test
+	public void test_zone() {
+		Clock test = Clocks.highResolution(PARIS);
+		assertEquals(PARIS, test.getZone());
+		assertSame(test, test.withZone(PARIS));
+		assertEquals(ZoneOffset.UTC, test.withZone(ZoneOffset.UTC).getZone());
+		assertEquals(Clocks.highResolution(PARIS), test);
+		assertEquals(Clocks.highResolution(PARIS).hashCode(), test.hashCode());
+		assertFalse(test.equals(Clock.system(PARIS)));
+		assertEquals("HighResolutionClock[Europe/Paris]", test.toString());
+		try {
+			Clocks.highResolution(null);
+			fail("Missing exception");
+		} catch (NullPointerException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void test_stopwatch() {
+		Stopwatch stopwatch = Stopwatch.start();
+		Support.sleep(20);
+		double millis = stopwatch.elapsedMillis();
+		assertTrue("elapsed " + millis, millis >= 19);
+		Duration elapsed = stopwatch.elapsed();
+		assertTrue(elapsed.toMillis() >= 19);
+		assertEquals(0, elapsed.getNano() % 1000);
+		Duration lap = stopwatch.lap();
+		assertTrue(lap.compareTo(elapsed) >= 0);
+		assertTrue(stopwatch.elapsed().compareTo(lap) < 0);
+	}
+
+	@Test
+	public void test_stopwatch_toDuration() {
+		assertEquals(Duration.ofNanos(1_234_000), Stopwatch.toDuration(1.2344));
+		assertEquals(Duration.ofNanos(1_235_000), Stopwatch.toDuration(1.2346));
+		assertEquals(Duration.ZERO, Stopwatch.toDuration(0));
+		assertEquals(Duration.ofDays(1), Stopwatch.toDuration(86_400_000));
+	}
+
+}
@@ -35,6 +35,7 @@ import org.jresearch.threetenbp.gwt.emu.java.time.Clock;
 import org.jresearch.threetenbp.gwt.emu.java.time.Instant;
 import org.jresearch.threetenbp.gwt.emu.java.time.ZoneId;
 import org.jresearch.threetenbp.gwt.emu.java.time.ZoneOffset;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.Support;
 
 import org.junit.Test;
 
@@ -104,6 +105,17 @@ public class TestClock_System extends AbstractTest {
 		assertEquals(test, Clock.system(ZoneId.systemDefault()));
 	}
 
+	public void test_systemDefaultZone_cached() {
+		ZoneId zone = ZoneId.systemDefault();
+		assertSame(zone, ZoneId.systemDefault());
+		assertSame(Clock.systemDefaultZone(), Clock.systemDefaultZone());
+		Support.refreshDefaultZone();
+		ZoneId refreshed = ZoneId.systemDefault();
+		assertEquals(zone, refreshed);
+		assertSame(refreshed, ZoneId.systemDefault());
+		assertEquals(refreshed, Clock.systemDefaultZone().getZone());
+	}
+
 	public void test_system_ZoneId() {
 		Clock test = Clock.system(PARIS);
 		assertEquals(test.getZone(), PARIS);
@@ -26,6 +26,7 @@ public class BrowserTestSet {
 		suite.addTestSuite(BrowserTestYear.class);
 		suite.addTestSuite(BrowserTestZonedDateTime.class);
 		suite.addTestSuite(BrowserTestZoneOffset.class);
+		suite.addTestSuite(BrowserTestZoneOffsetCursor.class);
 		suite.addTestSuite(BrowserTestZoneRulesBuilder.class);
 		// $JUnit-END$
 
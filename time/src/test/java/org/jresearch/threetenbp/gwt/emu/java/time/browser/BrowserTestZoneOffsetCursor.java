@@ -0,0 +1,11 @@
+package org.jresearch.threetenbp.gwt.emu.java.time.browser;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.zone.TestZoneOffsetCursor;
+
+public class BrowserTestZoneOffsetCursor extends TestZoneOffsetCursor {
+
+	public void test_benchmark_sweep() {
+		super.long_test_benchmark_sweep();
+	}
+
+}
@@ -40,11 +40,14 @@ import org.jresearch.threetenbp.gwt.emu.java.time.chrono.JapaneseChronology;
 import org.jresearch.threetenbp.gwt.emu.java.time.chrono.MinguoChronology;
 import org.jresearch.threetenbp.gwt.emu.java.time.chrono.ThaiBuddhistChronology;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.Support;
 import java.util.Locale;
 import java.util.Set;
 
 import org.junit.Test;
 
+import com.google.gwt.core.client.Callback;
+
 /**
  * Test Chrono class.
  */
@@ -186,6 +189,28 @@ public class TestChronology extends AbstractTest {
 		assertEquals(test, JapaneseChronology.INSTANCE);
 	}
 
+	// GWT specific
+	@Test
+	public void test_initChronologiesAsync() {
+		delayTestFinish(10000);
+		Support.initChronologiesAsync(new Callback<Void, Throwable>() {
+			@Override
+			public void onSuccess(Void result) {
+				assertSame(HijrahChronology.INSTANCE, Chronology.of("Hijrah"));
+				assertSame(HijrahChronology.INSTANCE, Chronology.of("islamic"));
+				assertSame(JapaneseChronology.INSTANCE, Chronology.ofLocale(new Locale("ja", "JP", "JP")));
+				assertTrue(Chronology.getAvailableChronologies().contains(ThaiBuddhistChronology.INSTANCE));
+				assertTrue(Chronology.getAvailableChronologies().contains(MinguoChronology.INSTANCE));
+				finishTest();
+			}
+
+			@Override
+			public void onFailure(Throwable reason) {
+				fail(reason.getMessage());
+			}
+		});
+	}
+
 	// -----------------------------------------------------------------------
 	// serialization; serialize and check each calendar system
 	// -----------------------------------------------------------------------
@@ -0,0 +1,52 @@
+package org.jresearch.threetenbp.gwt.emu.java.time.chrono;
+
+import java.util.Locale;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.AbstractTest;
+import org.jresearch.threetenbp.gwt.emu.java.time.DateTimeException;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.Support;
+import org.junit.Test;
+
+import com.google.gwt.core.client.Callback;
+
+/**
+ * Test the calendar systems loaded behind the split point, the module sets the
+ * {@code org.jresearch.threetenbp.gwt.time.chrono.async} property to true. The
+ * only test of the module, no other test may load the calendar systems first.
+ */
+// GWT specific
+public class TestChronology_Async extends AbstractTest {
+
+	@Override
+	public String getModuleName() {
+		return "org.jresearch.threetenbp.gwt.time.module_test_async";
+	}
+
+	@Test
+	public void test_initChronologiesAsync() {
+		assertSame(IsoChronology.INSTANCE, Chronology.of("ISO"));
+		try {
+			Chronology.of("ThaiBuddhist");
+			fail("ThaiBuddhist is registered before the split point is loaded");
+		} catch (DateTimeException ex) {
+			// expected
+		}
+		delayTestFinish(10000);
+		Support.initChronologiesAsync(new Callback<Void, Throwable>() {
+			@Override
+			public void onSuccess(Void result) {
+				assertSame(ThaiBuddhistChronology.INSTANCE, Chronology.of("ThaiBuddhist"));
+				assertSame(MinguoChronology.INSTANCE, Chronology.of("Minguo"));
+				assertSame(HijrahChronology.INSTANCE, Chronology.of("islamic"));
+				assertSame(JapaneseChronology.INSTANCE, Chronology.ofLocale(new Locale("ja", "JP", "JP")));
+				finishTest();
+			}
+
+			@Override
+			public void onFailure(Throwable reason) {
+				fail(reason.getMessage());
+			}
+		});
+	}
+
+}
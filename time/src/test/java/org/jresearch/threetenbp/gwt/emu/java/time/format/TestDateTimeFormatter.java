@@ -49,6 +49,9 @@ import org.jresearch.threetenbp.gwt.emu.java.time.format.DecimalStyle;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.SignStyle;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQuery;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.format.BulkFormatter;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Locale;
 
 import org.junit.Test;
@@ -182,6 +185,84 @@ public class TestDateTimeFormatter extends AbstractTest {
 		}
 	}
 
+	// -----------------------------------------------------------------------
+	@Test
+	public void test_formatAll() throws Exception {
+		TemporalAccessor[] temporals = { LocalDate.of(2008, 6, 30), LocalDate.of(2008, 7, 1), ZonedDateTime.of(2008, 7, 2, 11, 30, 0, 0, ZoneId.of("Europe/Paris")) };
+		for (DateTimeFormatter test : new DateTimeFormatter[] { fmt, DateTimeFormatter.ISO_LOCAL_DATE, DATE_FORMATTER.withZone(ZoneId.of("America/New_York")) }) {
+			String[] results = new String[4];
+			BulkFormatter.formatAll(test, temporals, results);
+			for (int i = 0; i < temporals.length; i++) {
+				assertEquals(test.format(temporals[i]), results[i]);
+			}
+			assertNull(results[3]);
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void test_formatAll_shortResults() throws Exception {
+		try {
+			BulkFormatter.formatAll(fmt, new TemporalAccessor[] { LocalDate.of(2008, 6, 30) }, new String[0]);
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test(expected = NullPointerException.class)
+	public void test_formatAll_nullTemporal() throws Exception {
+		try {
+			BulkFormatter.formatAll(fmt, new TemporalAccessor[] { LocalDate.of(2008, 6, 30), null }, new String[2]);
+			fail("Missing exception");
+		} catch (NullPointerException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void test_formatAllTo() throws Exception {
+		List<LocalDate> dates = Arrays.asList(LocalDate.of(2008, 6, 30), LocalDate.of(2008, 7, 1), LocalDate.of(2008, 7, 2));
+		StringBuilder buf = new StringBuilder("[");
+		BulkFormatter.formatAllTo(fmt, dates, ", ", buf);
+		assertEquals("[ONE30, ONE1, ONE2", buf.toString());
+		final StringBuilder out = new StringBuilder();
+		Appendable appendable = new Appendable() {
+			@Override
+			public Appendable append(CharSequence csq) {
+				out.append(csq);
+				return this;
+			}
+
+			@Override
+			public Appendable append(CharSequence csq, int start, int end) {
+				out.append(csq, start, end);
+				return this;
+			}
+
+			@Override
+			public Appendable append(char c) {
+				out.append(c);
+				return this;
+			}
+		};
+		BulkFormatter.formatAllTo(DateTimeFormatter.ISO_LOCAL_DATE, dates, "\n", appendable);
+		assertEquals("2008-06-30\n2008-07-01\n2008-07-02", out.toString());
+		buf.setLength(0);
+		BulkFormatter.formatAllTo(fmt, Arrays.<LocalDate>asList(), ", ", buf);
+		assertEquals("", buf.toString());
+	}
+
+	@Test(expected = DateTimeException.class)
+	public void test_formatAllTo_noSuchField() throws Exception {
+		try {
+			StringBuilder buf = new StringBuilder();
+			BulkFormatter.formatAllTo(fmt, Arrays.<TemporalAccessor>asList(LocalDate.of(2008, 6, 30), LocalTime.of(11, 30)), ",", buf);
+			fail("Missing exception");
+		} catch (DateTimeException e) {
+			// expected
+		}
+	}
+
 	// -----------------------------------------------------------------------
 	// parse(Class)
 	// -----------------------------------------------------------------------
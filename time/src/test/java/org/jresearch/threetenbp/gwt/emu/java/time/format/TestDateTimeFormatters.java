@@ -42,8 +42,10 @@ import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.OF
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.SECOND_OF_MINUTE;
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.YEAR;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
@@ -51,14 +53,18 @@ import java.util.Objects;
 import org.jresearch.threetenbp.gwt.emu.java.text.ParsePosition;
 import org.jresearch.threetenbp.gwt.emu.java.time.AbstractTest;
 import org.jresearch.threetenbp.gwt.emu.java.time.DateTimeException;
+import org.jresearch.threetenbp.gwt.emu.java.time.Instant;
 import org.jresearch.threetenbp.gwt.emu.java.time.LocalDate;
 import org.jresearch.threetenbp.gwt.emu.java.time.LocalDateTime;
+import org.jresearch.threetenbp.gwt.emu.java.time.LocalTime;
+import org.jresearch.threetenbp.gwt.emu.java.time.OffsetDateTime;
 import org.jresearch.threetenbp.gwt.emu.java.time.Year;
 import org.jresearch.threetenbp.gwt.emu.java.time.YearMonth;
 import org.jresearch.threetenbp.gwt.emu.java.time.ZoneId;
 import org.jresearch.threetenbp.gwt.emu.java.time.ZoneOffset;
 import org.jresearch.threetenbp.gwt.emu.java.time.ZonedDateTime;
 import org.jresearch.threetenbp.gwt.emu.java.time.chrono.Chronology;
+import org.jresearch.threetenbp.gwt.emu.java.time.chrono.IsoChronology;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.IsoFields;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalField;
@@ -1339,6 +1345,135 @@ public class TestDateTimeFormatters extends AbstractTest {
 		}
 	}
 
+	// GWT specific
+	// -----------------------------------------------------------------------
+	@Test
+	public void test_print_isoPrinter() {
+		DateTimeFormatter[] formatters = { DateTimeFormatter.ISO_LOCAL_DATE, DateTimeFormatter.ISO_LOCAL_TIME,
+				DateTimeFormatter.ISO_LOCAL_DATE_TIME, DateTimeFormatter.ISO_OFFSET_DATE_TIME };
+		int[] years = { -999_999_999, -10_000, -1_000, -999, -1, 0, 1, 999, 2012, 9_999, 10_000, 999_999_999 };
+		int[] nanos = { 0, 1, 120_000_000, 123_456_000, 123_456_789 };
+		ZoneOffset[] offsets = { ZoneOffset.UTC, ZoneOffset.ofHoursMinutes(5, 30), ZoneOffset.ofHoursMinutesSeconds(-1, -2, -3) };
+		for (DateTimeFormatter formatter : formatters) {
+			// the same printer-parser without the hand written printer
+			DateTimeFormatter generic = new DateTimeFormatterBuilder().append(formatter).toFormatter().withChronology(formatter.getChronology());
+			for (int year : years) {
+				for (int nano : nanos) {
+					for (ZoneOffset offset : offsets) {
+						OffsetDateTime dateTime = OffsetDateTime.of(year, 6, 3, 1, 2, nano == 1 ? 0 : 3, nano, offset);
+						TemporalAccessor[] temporals = { dateTime, dateTime.toLocalDateTime(), dateTime.toLocalDate(), dateTime.toLocalTime(),
+								dateTime.toOffsetTime(), dateTime.toZonedDateTime() };
+						for (TemporalAccessor temporal : temporals) {
+							assertEquals(temporal.toString(), print(generic, temporal), print(formatter, temporal));
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	public void test_print_isoPrinter_instant() {
+		long[] seconds = { -62_167_219_201L, -62_167_219_200L, -1, 0, 1, 1_330_586_130L, 253_402_300_799L, 253_402_300_800L };
+		int[] nanos = { 0, 1, 120_000_000, 123_456_000, 123_456_789 };
+		DateTimeFormatter generic = new DateTimeFormatterBuilder().append(DateTimeFormatter.ISO_INSTANT).toFormatter();
+		for (long second : seconds) {
+			for (int nano : nanos) {
+				Instant instant = Instant.ofEpochSecond(second, nano);
+				assertEquals(generic.format(instant), DateTimeFormatter.ISO_INSTANT.format(instant));
+				assertEquals(generic.format(instant), instant.toString());
+			}
+		}
+		assertEquals("2012-03-01T07:15:30.120Z", Instant.ofEpochSecond(1_330_586_130L, 120_000_000).toString());
+	}
+
+	@Test
+	public void test_parse_isoLayout() {
+		DateTimeFormatter[] formatters = { DateTimeFormatter.ISO_LOCAL_DATE, DateTimeFormatter.ISO_LOCAL_TIME,
+				DateTimeFormatter.ISO_LOCAL_DATE_TIME, DateTimeFormatter.ISO_OFFSET_DATE_TIME, DateTimeFormatter.ISO_INSTANT };
+		String[] texts = { "2012-06-30", "+2012-06-30", "12012-06-30", "2012-02-30", "2012-6-30", "10:15", "10:15:30", "10:15:30.1",
+				"10:15:30.123456789", "10:15:30.1234567890", "10:15:30.", "24:00", "2012-06-30T10:15", "2012-06-30t10:15:30.5",
+				"2012-06-30T24:00", "2012-06-30T10:15:30Z", "2012-06-30T10:15:30z", "2012-06-30T10:15+01:00",
+				"2012-06-30T10:15:30.000000001-01:02:03", "2012-06-30T10:15:30+1:00", "2012-06-30T10:15:30+19:00",
+				"2012-06-30T23:59:60Z", "0000-01-01T00:00:00Z", "9999-12-31T23:59:59.999999999Z", "2012-06-30T10:15:30.Z" };
+		List<TemporalQuery<?>> queries = Arrays.<TemporalQuery<?>>asList(LocalDate::from, LocalTime::from, LocalDateTime::from,
+				OffsetDateTime::from, Instant::from, TemporalQueries.offset(), TemporalQueries.localDate());
+		for (DateTimeFormatter formatter : formatters) {
+			// the same printer-parser without the hand written parser
+			DateTimeFormatter generic = new DateTimeFormatterBuilder().append(formatter).toFormatter(ResolverStyle.STRICT)
+					.withChronology(formatter.getChronology());
+			for (String text : texts) {
+				for (TemporalQuery<?> query : queries) {
+					assertEquals(text, parse(generic, text, query), parse(formatter, text, query));
+				}
+			}
+		}
+		assertEquals(Instant.ofEpochSecond(1_330_586_130L, 120_000_000), Instant.parse("2012-03-01T07:15:30.12Z"));
+	}
+
+	@Test
+	public void test_parse_isoLayout_queryOnce() {
+		final int[] calls = new int[1];
+		TemporalQuery<LocalDate> counting = new TemporalQuery<LocalDate>() {
+			@Override
+			public LocalDate queryFrom(TemporalAccessor temporal) {
+				calls[0]++;
+				throw new IllegalStateException("query bug");
+			}
+		};
+		try {
+			DateTimeFormatter.ISO_LOCAL_DATE.parse("2012-06-30", counting);
+			fail("Missing exception");
+		} catch (DateTimeParseException e) {
+			assertTrue(e.getCause() instanceof IllegalStateException);
+		}
+		assertEquals(1, calls[0]);
+	}
+
+	@Test
+	public void test_predefined_lazyPrinterParser() {
+		DateTimeFormatter[] formatters = { DateTimeFormatter.ISO_LOCAL_DATE, DateTimeFormatter.ISO_OFFSET_DATE, DateTimeFormatter.ISO_DATE,
+				DateTimeFormatter.ISO_LOCAL_TIME, DateTimeFormatter.ISO_OFFSET_TIME, DateTimeFormatter.ISO_TIME,
+				DateTimeFormatter.ISO_LOCAL_DATE_TIME, DateTimeFormatter.ISO_OFFSET_DATE_TIME, DateTimeFormatter.ISO_ZONED_DATE_TIME,
+				DateTimeFormatter.ISO_DATE_TIME, DateTimeFormatter.ISO_ORDINAL_DATE, DateTimeFormatter.ISO_WEEK_DATE,
+				DateTimeFormatter.ISO_INSTANT, DateTimeFormatter.BASIC_ISO_DATE, DateTimeFormatter.RFC_1123_DATE_TIME };
+		for (DateTimeFormatter formatter : formatters) {
+			// a copy shares the printer-parser built on first use
+			DateTimeFormatter copy = formatter.withLocale(Locale.FRANCE);
+			assertEquals(formatter.toString(), copy.toString());
+			assertEquals(Locale.FRANCE, copy.getLocale());
+			assertEquals(formatter.getResolverStyle(), copy.getResolverStyle());
+			assertEquals(DecimalStyle.STANDARD, formatter.getDecimalStyle());
+			assertNull(formatter.getZone());
+			assertNull(formatter.getResolverFields());
+		}
+		assertEquals(ResolverStyle.SMART, DateTimeFormatter.RFC_1123_DATE_TIME.getResolverStyle());
+		assertEquals(ResolverStyle.STRICT, DateTimeFormatter.ISO_INSTANT.getResolverStyle());
+		assertNull(DateTimeFormatter.ISO_INSTANT.getChronology());
+		assertEquals(IsoChronology.INSTANCE, DateTimeFormatter.ISO_WEEK_DATE.getChronology());
+		assertEquals("ParseCaseSensitive(false)Value(Year,4,10,EXCEEDS_PAD)'-'Value(DayOfYear,3)[Offset(+HH:MM:ss,'Z')]",
+				DateTimeFormatter.ISO_ORDINAL_DATE.toString());
+		assertEquals("Tue, 3 Jun 2008 11:05:30 GMT",
+				DateTimeFormatter.RFC_1123_DATE_TIME.withLocale(Locale.FRANCE).format(OffsetDateTime.of(2008, 6, 3, 11, 5, 30, 0, ZoneOffset.UTC)));
+	}
+
+	private static String parse(DateTimeFormatter formatter, String text, TemporalQuery<?> query) {
+		try {
+			return String.valueOf(formatter.parse(text, query));
+		} catch (DateTimeParseException e) {
+			// a failed query describes the temporal it was given, the parsed object or the builder
+			return e.getCause() == null ? e.getMessage() : e.getErrorIndex() + " " + e.getCause().getClass().getName();
+		}
+	}
+
+	private static String print(DateTimeFormatter formatter, TemporalAccessor temporal) {
+		try {
+			return formatter.format(temporal);
+		} catch (DateTimeException e) {
+			return e.getClass().getName();
+		}
+	}
+
 	// -----------------------------------------------------------------------
 	// -----------------------------------------------------------------------
 	// -----------------------------------------------------------------------
@@ -0,0 +1,148 @@
+package org.jresearch.threetenbp.gwt.emu.java.time.format;
+
+import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.YEAR;
+import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.YEAR_OF_ERA;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jresearch.threetenbp.gwt.emu.java.text.ParsePosition;
+import org.jresearch.threetenbp.gwt.emu.java.time.AbstractTest;
+import org.jresearch.threetenbp.gwt.emu.java.time.DateTimeException;
+import org.jresearch.threetenbp.gwt.emu.java.time.LocalDate;
+import org.jresearch.threetenbp.gwt.emu.java.time.LocalDateTime;
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalAccessor;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.format.DateTimeParseCursor;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.format.ParseContextAccess;
+import org.junit.Test;
+
+/**
+ * Test DateTimeParseCursor.
+ */
+public class TestDateTimeParseCursor extends AbstractTest {
+
+	private static final String LOG = "2012-07-15T10:15:30 start\n" + "2012-07-15T10:15:31.5 running, 2012-13-01 is not a date\n"
+			+ "2012-07-16T00:00 stop";
+
+	@Test
+	public void test_find() {
+		DateTimeParseCursor cursor = DateTimeParseCursor.of(DateTimeFormatter.ISO_LOCAL_DATE_TIME, LOG);
+		List<LocalDateTime> found = new ArrayList<>();
+		List<Integer> starts = new ArrayList<>();
+		while (cursor.find()) {
+			found.add(cursor.resolve(LocalDateTime::from));
+			starts.add(cursor.getStart());
+			assertEquals(-1, cursor.getPosition().getErrorIndex());
+		}
+		assertEquals(Arrays.asList(LocalDateTime.of(2012, 7, 15, 10, 15, 30), LocalDateTime.of(2012, 7, 15, 10, 15, 31, 500_000_000),
+				LocalDateTime.of(2012, 7, 16, 0, 0)), found);
+		assertEquals(Arrays.asList(0, 26, LOG.indexOf("2012-07-16")), starts);
+		assertEquals(LOG.length(), cursor.getPosition().getIndex());
+		assertNull(cursor.getParsed());
+		assertEquals(-1, cursor.getStart());
+	}
+
+	@Test
+	public void test_find_resolveFails() {
+		DateTimeParseCursor cursor = DateTimeParseCursor.of(DateTimeFormatter.ISO_LOCAL_DATE, "a 2012-13-01 b 2012-07-15");
+		assertTrue(cursor.find());
+		assertEquals(2, cursor.getStart());
+		try {
+			cursor.resolve(LocalDate::from);
+			fail("Missing exception");
+		} catch (DateTimeException e) {
+			// expected
+		}
+		assertTrue(cursor.find());
+		assertEquals(LocalDate.of(2012, 7, 15), cursor.resolve(LocalDate::from));
+		assertFalse(cursor.find());
+	}
+
+	@Test
+	public void test_parseNext() {
+		DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+		DateTimeParseCursor cursor = DateTimeParseCursor.of(formatter, "2012-07-15,2012-07-XX,2012-08-01");
+		assertTrue(cursor.parseNext());
+		TemporalAccessor first = cursor.getParsed();
+		assertEquals(10, cursor.getPosition().getIndex());
+		cursor.getPosition().setIndex(11);
+		assertFalse(cursor.parseNext());
+		assertEquals(11, cursor.getPosition().getIndex());
+		assertEquals(19, cursor.getPosition().getErrorIndex());
+		assertNull(cursor.getParsed());
+		cursor.getPosition().setIndex(22);
+		assertTrue(cursor.parseNext());
+		assertEquals(-1, cursor.getPosition().getErrorIndex());
+		assertEquals(32, cursor.getPosition().getIndex());
+		assertEquals(1, cursor.getParsed().getLong(DAY_OF_MONTH));
+		// the earlier result is not changed by the later attempts
+		assertEquals(15, first.getLong(DAY_OF_MONTH));
+		assertEquals(2012, first.getLong(YEAR_OF_ERA));
+	}
+
+	@Test
+	public void test_sameAsParseUnresolved() {
+		String text = "x 2012-07-15 y 2013-01-02 z";
+		DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE;
+		DateTimeParseCursor cursor = DateTimeParseCursor.of(formatter, text);
+		while (cursor.find()) {
+			ParsePosition pos = new ParsePosition(cursor.getStart());
+			TemporalAccessor expected = formatter.parseUnresolved(text, pos);
+			assertEquals(expected.toString(), cursor.getParsed().toString());
+			assertEquals(pos.getIndex(), cursor.getPosition().getIndex());
+		}
+	}
+
+	@Test
+	public void test_find_emptyMatch() {
+		DateTimeFormatter formatter = new DateTimeFormatterBuilder().optionalStart().appendValue(YEAR, 4).optionalEnd().toFormatter();
+		DateTimeParseCursor cursor = DateTimeParseCursor.of(formatter, "ab");
+		int count = 0;
+		while (cursor.find()) {
+			assertEquals(count, cursor.getStart());
+			count++;
+		}
+		assertEquals(3, count);
+	}
+
+	@Test
+	public void test_resolve_noMatch() {
+		DateTimeParseCursor cursor = DateTimeParseCursor.of(DateTimeFormatter.ISO_LOCAL_DATE, "none");
+		assertFalse(cursor.find());
+		try {
+			cursor.resolve(LocalDate::from);
+			fail("Missing exception");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void test_index_outOfText() {
+		DateTimeParseCursor cursor = DateTimeParseCursor.of(DateTimeFormatter.ISO_LOCAL_DATE, "none");
+		cursor.getPosition().setIndex(5);
+		try {
+			cursor.parseNext();
+			fail("Missing exception");
+		} catch (IndexOutOfBoundsException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void test_register_once() {
+		// the formatter class registered the access when it was initialized
+		assertNotNull(DateTimeFormatter.ISO_LOCAL_DATE);
+		try {
+			ParseContextAccess.register(formatter -> null);
+			fail("Missing exception");
+		} catch (IllegalStateException e) {
+			// expected
+		}
+		DateTimeParseCursor cursor = DateTimeParseCursor.of(DateTimeFormatter.ISO_LOCAL_DATE, "2012-07-15");
+		assertTrue(cursor.parseNext());
+	}
+
+}
@@ -0,0 +1,106 @@
+package org.jresearch.threetenbp.gwt.emu.java.time.format;
+
+import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.MONTH_OF_YEAR;
+import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.NANO_OF_SECOND;
+import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.YEAR;
+
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.AbstractTest;
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.IsoFields;
+import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalField;
+import org.junit.Test;
+
+/**
+ * Test FieldValues.
+ */
+public class TestFieldValues extends AbstractTest {
+
+	@Test
+	public void test_putGetRemove() {
+		FieldValues test = new FieldValues();
+		assertTrue(test.isEmpty());
+		assertNull(test.put(YEAR, 2012L));
+		assertNull(test.put(IsoFields.QUARTER_OF_YEAR, 2L));
+		assertEquals(Long.valueOf(2012), test.put(YEAR, 2013L));
+		assertEquals(2, test.size());
+		assertEquals(Long.valueOf(2013), test.get(YEAR));
+		assertEquals(2013, test.getLong(YEAR));
+		assertEquals(2, test.getLong(IsoFields.QUARTER_OF_YEAR));
+		assertTrue(test.containsKey(IsoFields.QUARTER_OF_YEAR));
+		assertNull(test.get(MONTH_OF_YEAR));
+		assertEquals(Long.valueOf(2013), test.remove(YEAR));
+		assertEquals(Long.valueOf(2), test.remove(IsoFields.QUARTER_OF_YEAR));
+		assertTrue(test.isEmpty());
+	}
+
+	@Test
+	public void test_putValue() {
+		FieldValues test = new FieldValues();
+		assertFalse(test.putValue(NANO_OF_SECOND, 5));
+		assertFalse(test.putValue(NANO_OF_SECOND, 5));
+		assertTrue(test.putValue(NANO_OF_SECOND, 6));
+		assertEquals(6, test.getLong(NANO_OF_SECOND));
+		assertFalse(test.putValue(IsoFields.DAY_OF_QUARTER, 1));
+		assertTrue(test.putValue(IsoFields.DAY_OF_QUARTER, 2));
+	}
+
+	@Test
+	public void test_copyOnWrite() {
+		FieldValues original = new FieldValues();
+		original.put(YEAR, 2012L);
+		original.put(IsoFields.QUARTER_OF_YEAR, 2L);
+		FieldValues copy = original.copy();
+		copy.put(YEAR, 2013L);
+		copy.put(MONTH_OF_YEAR, 6L);
+		copy.remove(IsoFields.QUARTER_OF_YEAR);
+		original.put(DAY_OF_MONTH, 30L);
+
+		Map<TemporalField, Long> expected = new HashMap<>();
+		expected.put(YEAR, 2012L);
+		expected.put(IsoFields.QUARTER_OF_YEAR, 2L);
+		expected.put(DAY_OF_MONTH, 30L);
+		assertEquals(expected, original);
+		expected.clear();
+		expected.put(YEAR, 2013L);
+		expected.put(MONTH_OF_YEAR, 6L);
+		assertEquals(expected, copy);
+
+		FieldValues all = new FieldValues();
+		all.putAll(original);
+		all.clear();
+		assertEquals(3, original.size());
+	}
+
+	@Test
+	public void test_iterator() {
+		FieldValues test = new FieldValues();
+		test.put(IsoFields.QUARTER_OF_YEAR, 2L);
+		test.put(DAY_OF_MONTH, 30L);
+		test.put(YEAR, 2012L);
+		assertEquals("{DayOfMonth=30, Year=2012, QuarterOfYear=2}", test.toString());
+		Iterator<Map.Entry<TemporalField, Long>> it = test.entrySet().iterator();
+		while (it.hasNext()) {
+			Map.Entry<TemporalField, Long> entry = it.next();
+			if (entry.getKey() == YEAR) {
+				entry.setValue(2013L);
+			} else {
+				it.remove();
+			}
+		}
+		assertEquals("{Year=2013}", test.toString());
+		try {
+			for (Iterator<TemporalField> keys = test.keySet().iterator(); keys.hasNext(); keys.next()) {
+				test.put(MONTH_OF_YEAR, 6L);
+			}
+			fail("Missing exception");
+		} catch (ConcurrentModificationException e) {
+			// expected
+		}
+	}
+
+}
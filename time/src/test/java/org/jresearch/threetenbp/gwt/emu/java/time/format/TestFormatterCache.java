@@ -0,0 +1,94 @@
+package org.jresearch.threetenbp.gwt.emu.java.time.format;
+
+import java.util.Locale;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.AbstractTest;
+import org.jresearch.threetenbp.gwt.emu.java.time.LocalDate;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.format.FormatterCache;
+import org.junit.Test;
+
+/**
+ * Test FormatterCache.
+ */
+public class TestFormatterCache extends AbstractTest {
+
+	@Test
+	public void test_ofPattern_shared() {
+		FormatterCache.clear();
+		DateTimeFormatter first = DateTimeFormatter.ofPattern("yyyy-MM-dd", Locale.ENGLISH);
+		DateTimeFormatter second = DateTimeFormatter.ofPattern("yyyy-MM-dd", Locale.ENGLISH);
+		assertSame(first, second);
+		assertNotSame(first, DateTimeFormatter.ofPattern("yyyy-MM-dd", Locale.FRENCH));
+		assertNotSame(first, DateTimeFormatter.ofPattern("yyyy/MM/dd", Locale.ENGLISH));
+		assertEquals(1, FormatterCache.getHitCount());
+		assertEquals(3, FormatterCache.getMissCount());
+		assertEquals(3, FormatterCache.size());
+		assertEquals("2012-07-15", second.format(LocalDate.of(2012, 7, 15)));
+		assertEquals(Locale.ENGLISH, second.getLocale());
+	}
+
+	@Test
+	public void test_ofPattern_invalid() {
+		FormatterCache.clear();
+		for (int i = 0; i < 2; i++) {
+			try {
+				DateTimeFormatter.ofPattern("yyyy-MM-dd'", Locale.ENGLISH);
+				fail("Missing exception");
+			} catch (IllegalArgumentException e) {
+				// expected
+			}
+		}
+		assertEquals(0, FormatterCache.size());
+		assertEquals(2, FormatterCache.getMissCount());
+	}
+
+	@Test
+	public void test_capacity_leastRecentlyUsed() {
+		int capacity = FormatterCache.getCapacity();
+		try {
+			FormatterCache.clear();
+			FormatterCache.setCapacity(2);
+			DateTimeFormatter a = DateTimeFormatter.ofPattern("d", Locale.ENGLISH);
+			DateTimeFormatter b = DateTimeFormatter.ofPattern("M", Locale.ENGLISH);
+			assertSame(a, DateTimeFormatter.ofPattern("d", Locale.ENGLISH));
+			DateTimeFormatter.ofPattern("y", Locale.ENGLISH);
+			assertEquals(2, FormatterCache.size());
+			// "M" was the least recently used one
+			assertSame(a, DateTimeFormatter.ofPattern("d", Locale.ENGLISH));
+			assertNotSame(b, DateTimeFormatter.ofPattern("M", Locale.ENGLISH));
+			FormatterCache.setCapacity(1);
+			assertEquals(1, FormatterCache.size());
+			FormatterCache.setCapacity(0);
+			assertEquals(0, FormatterCache.size());
+			assertNotSame(a, DateTimeFormatter.ofPattern("d", Locale.ENGLISH));
+			assertEquals(0, FormatterCache.size());
+		} finally {
+			FormatterCache.setCapacity(capacity);
+		}
+	}
+
+	@Test
+	public void test_capacity_negative() {
+		try {
+			FormatterCache.setCapacity(-1);
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void test_ofPattern_fieldLetters() {
+		DateTimeFormatter test = DateTimeFormatter.ofPattern("GGGG uuuu QQQ MMMM dd EEEE HH:mm:ss.SSS", Locale.ENGLISH);
+		assertEquals("Text(Era)' 'Value(Year,4,19,EXCEEDS_PAD)' 'Text(QuarterOfYear,SHORT)' 'Text(MonthOfYear)' '"
+				+ "Value(DayOfMonth,2)' 'Text(DayOfWeek)' 'Value(HourOfDay,2)':'Value(MinuteOfHour,2)':'Value(SecondOfMinute,2)"
+				+ "'.'Fraction(NanoOfSecond,3,3)", test.toString());
+		try {
+			DateTimeFormatter.ofPattern("yyyy-MM-dd b", Locale.ENGLISH);
+			fail("Missing exception");
+		} catch (IllegalArgumentException e) {
+			// expected
+		}
+	}
+
+}
@@ -33,6 +33,7 @@ package org.jresearch.threetenbp.gwt.emu.java.time.format;
 
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.AMPM_OF_DAY;
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.DAY_OF_WEEK;
+import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.ERA;
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.MONTH_OF_YEAR;
 
 import java.util.Locale;
@@ -184,6 +185,9 @@ public class TestSimpleDateTimeTextProvider extends AbstractTest {
 				{ AMPM_OF_DAY, 0, TextStyle.SHORT, enUS, "AM" },
 				{ AMPM_OF_DAY, 1, TextStyle.SHORT, enUS, "PM" },
 
+				{ ERA, 0, TextStyle.SHORT, enUS, "BC" },
+				{ ERA, 1, TextStyle.SHORT, enUS, "AD" },
+
 		};
 	}
 
@@ -203,4 +207,17 @@ public class TestSimpleDateTimeTextProvider extends AbstractTest {
 		assertEquals(expected, tp.getText(field, value.longValue(), style, locale));
 	}
 
+	public void test_getText_standaloneFallback() {
+		DateTimeTextProvider tp = DateTimeTextProvider.getInstance();
+		for (TemporalField field : new TemporalField[] { ERA, AMPM_OF_DAY }) {
+			for (long value = 0; value < 2; value++) {
+				assertEquals(tp.getText(field, value, TextStyle.FULL, frFR), tp.getText(field, value, TextStyle.FULL_STANDALONE, frFR));
+				assertEquals(tp.getText(field, value, TextStyle.SHORT, frFR), tp.getText(field, value, TextStyle.SHORT_STANDALONE, frFR));
+				assertNotNull(tp.getText(field, value, TextStyle.SHORT, frFR));
+			}
+		}
+		assertNotNull(tp.getText(MONTH_OF_YEAR, 12, TextStyle.NARROW_STANDALONE, frFR));
+		assertNotNull(tp.getText(DAY_OF_WEEK, 7, TextStyle.NARROW_STANDALONE, frFR));
+	}
+
 }
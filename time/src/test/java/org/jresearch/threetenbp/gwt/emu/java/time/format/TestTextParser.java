@@ -35,8 +35,11 @@ import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.DA
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.DAY_OF_WEEK;
 import static org.jresearch.threetenbp.gwt.emu.java.time.temporal.ChronoField.MONTH_OF_YEAR;
 
+import java.util.HashMap;
 import java.util.Locale;
+import java.util.Map;
 
+import org.jresearch.threetenbp.gwt.emu.java.text.ParsePosition;
 import org.jresearch.threetenbp.gwt.emu.java.time.format.DateTimeFormatterBuilder.TextPrinterParser;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalField;
 import org.jresearch.threetenbp.gwt.emu.java.time.temporal.TemporalQueries;
@@ -399,6 +402,43 @@ public class TestTextParser extends AbstractTestPrinterParser {
 		assertParsed(parseContext, MONTH_OF_YEAR, 1L);
 	}
 
+	// GWT specific
+	// -----------------------------------------------------------------------
+	public void test_parse_map_longestMatch() throws Exception {
+		Map<Long, String> map = new HashMap<>();
+		map.put(1L, "I");
+		map.put(2L, "II");
+		map.put(3L, "III");
+		map.put(4L, "IV");
+		DateTimeFormatter f = new DateTimeFormatterBuilder().appendText(MONTH_OF_YEAR, map).toFormatter();
+		assertEquals(f.parseUnresolved("III", new ParsePosition(0)).getLong(MONTH_OF_YEAR), 3L);
+		assertEquals(f.parseUnresolved("IV", new ParsePosition(0)).getLong(MONTH_OF_YEAR), 4L);
+		ParsePosition pos = new ParsePosition(0);
+		assertEquals(f.parseUnresolved("IIX", pos).getLong(MONTH_OF_YEAR), 2L);
+		assertEquals(pos.getIndex(), 2);
+		pos = new ParsePosition(0);
+		assertNull(f.parseUnresolved("X", pos));
+		assertEquals(pos.getErrorIndex(), 0);
+	}
+
+	public void test_parse_map_caseInsensitive() throws Exception {
+		Map<Long, String> map = new HashMap<>();
+		map.put(1L, "Jan");
+		map.put(2L, "January");
+		DateTimeFormatter f = new DateTimeFormatterBuilder().parseCaseInsensitive().appendText(MONTH_OF_YEAR, map).toFormatter();
+		assertEquals(f.parseUnresolved("JANUARY", new ParsePosition(0)).getLong(MONTH_OF_YEAR), 2L);
+		assertEquals(f.parseUnresolved("jANUs", new ParsePosition(0)).getLong(MONTH_OF_YEAR), 1L);
+	}
+
+	public void test_parse_full_strict_caseInsensitive_prefix() throws Exception {
+		parseContext.setCaseSensitive(false);
+		TextPrinterParser pp = new TextPrinterParser(DAY_OF_WEEK, TextStyle.SHORT, PROVIDER);
+		int newPos = pp.parse(parseContext, "tUEsday", 0);
+		assertEquals(newPos, 3);
+		assertParsed(parseContext, DAY_OF_WEEK, 2L);
+		assertEquals(pp.parse(parseContext, "Tux", 0), ~0);
+	}
+
 	private void assertParsed(DateTimeParseContext context, TemporalField field, Long value) {
 		if (value == null) {
 			assertEquals(context.getParsed(field), null);
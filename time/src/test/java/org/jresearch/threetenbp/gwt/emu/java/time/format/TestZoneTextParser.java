@@ -0,0 +1,87 @@
+package org.jresearch.threetenbp.gwt.emu.java.time.format;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.ZoneId;
+import org.jresearch.threetenbp.gwt.emu.java.time.ZoneOffset;
+import org.jresearch.threetenbp.gwt.emu.java.time.format.DateTimeFormatterBuilder.ZoneTextPrinterParser;
+import org.junit.Test;
+
+/**
+ * Test ZoneTextPrinterParser parsing.
+ */
+public class TestZoneTextParser extends AbstractTestPrinterParser {
+
+	@Test
+	public void test_parse_id() throws Exception {
+		ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+		int result = pp.parse(parseContext, "Europe/Paris", 0);
+		assertEquals(12, result);
+		assertParsed(ZoneId.of("Europe/Paris"));
+	}
+
+	@Test
+	public void test_parse_name() throws Exception {
+		ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+		int result = pp.parse(parseContext, "OTHERBritish Summer Time", 5);
+		assertEquals(24, result);
+		assertParsed(ZoneId.of("Europe/London"));
+	}
+
+	@Test
+	public void test_parse_longestMatch() throws Exception {
+		ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+		int result = pp.parse(parseContext, "America/New_YorkOTHER", 0);
+		assertEquals(16, result);
+		assertParsed(ZoneId.of("America/New_York"));
+	}
+
+	@Test
+	public void test_parse_lowerCase() throws Exception {
+		ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+		parseContext.setCaseSensitive(false);
+		int result = pp.parse(parseContext, "europe/london", 0);
+		assertEquals(13, result);
+		assertParsed(ZoneId.of("Europe/London"));
+	}
+
+	@Test
+	public void test_parse_name_lowerCase() throws Exception {
+		ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+		parseContext.setCaseSensitive(false);
+		int result = pp.parse(parseContext, "british summer timeOTHER", 0);
+		assertEquals(19, result);
+		assertParsed(ZoneId.of("Europe/London"));
+	}
+
+	@Test
+	public void test_parse_cached() throws Exception {
+		ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.SHORT);
+		for (int i = 0; i < 3; i++) {
+			gwtSetUp();
+			int result = pp.parse(parseContext, "Asia/Kathmandu", 0);
+			assertEquals(14, result);
+			assertParsed(ZoneId.of("Asia/Kathmandu"));
+		}
+	}
+
+	@Test
+	public void test_parse_utc() throws Exception {
+		ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+		int result = pp.parse(parseContext, "Zx", 0);
+		assertEquals(1, result);
+		assertParsed(ZoneOffset.UTC);
+	}
+
+	@Test
+	public void test_parse_noMatch() throws Exception {
+		ZoneTextPrinterParser pp = new ZoneTextPrinterParser(TextStyle.FULL);
+		int result = pp.parse(parseContext, "OTHER", 0);
+		assertEquals(~0, result);
+		assertParsed(null);
+	}
+
+	private void assertParsed(ZoneId expectedZone) {
+		// GWT specific
+		assertEquals(expectedZone, parseContext.toParsed().zone);
+	}
+
+}
@@ -268,6 +268,19 @@ public class TestStandardZoneRules extends AbstractTest {
 		assertEquals(trans.hashCode(), otherTrans.hashCode());
 	}
 
+	public void test_London_getOffsetInfo_historic() {
+		ZoneRules test = europeLondon();
+		// 1995-03-26T01:00 gap, 1995-10-22T01:00 overlap
+		checkOffset(test, LocalDateTime.of(1995, 3, 26, 0, 59, 59, 999999999), OFFSET_ZERO, 1);
+		checkOffset(test, LocalDateTime.of(1995, 3, 26, 1, 0, 0, 0), OFFSET_ZERO, GAP);
+		checkOffset(test, LocalDateTime.of(1995, 3, 26, 1, 59, 59, 999999999), OFFSET_ZERO, GAP);
+		checkOffset(test, LocalDateTime.of(1995, 3, 26, 2, 0, 0, 0), OFFSET_PONE, 1);
+		checkOffset(test, LocalDateTime.of(1995, 10, 22, 0, 59, 59, 999999999), OFFSET_PONE, 1);
+		checkOffset(test, LocalDateTime.of(1995, 10, 22, 1, 0, 0, 0), OFFSET_PONE, OVERLAP);
+		checkOffset(test, LocalDateTime.of(1995, 10, 22, 1, 59, 59, 999999999), OFFSET_PONE, OVERLAP);
+		checkOffset(test, LocalDateTime.of(1995, 10, 22, 2, 0, 0, 0), OFFSET_ZERO, 1);
+	}
+
 	public void test_London_getStandardOffset() {
 		ZoneRules test = europeLondon();
 		ZonedDateTime zdt = createZDT(1840, 1, 1, ZoneOffset.UTC);
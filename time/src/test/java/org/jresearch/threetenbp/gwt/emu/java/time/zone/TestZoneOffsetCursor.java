@@ -0,0 +1,118 @@
+package org.jresearch.threetenbp.gwt.emu.java.time.zone;
+
+import org.jresearch.threetenbp.gwt.emu.java.time.AbstractTest;
+import org.jresearch.threetenbp.gwt.emu.java.time.Instant;
+import org.jresearch.threetenbp.gwt.emu.java.time.ZoneId;
+import org.jresearch.threetenbp.gwt.emu.java.time.ZoneOffset;
+import org.jresearch.threetenbp.gwt.emu.org.jresearch.threetenbp.gwt.time.client.zone.ZoneOffsetCursor;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Test ZoneOffsetCursor and the offset range cache of StandardZoneRules.
+ */
+public class TestZoneOffsetCursor extends AbstractTest {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TestZoneOffsetCursor.class);
+
+	/** About 32 years in steps of 11.6 days from 1938, crossing the transitions. */
+	private static final int SWEEP_SIZE = 1_000;
+	private static final long SWEEP_START = -1_000_000_000L;
+	private static final long SWEEP_STEP = 1_000_003L;
+	/** About 11 years in steps of an hour, see {@link #long_test_benchmark_sweep()}. */
+	private static final int BENCHMARK_SIZE = 100_000;
+	private static final long BENCHMARK_STEP = 3_607L;
+	/** Out of the sweep, used to reset the cached range. */
+	private static final Instant FAR = Instant.ofEpochSecond(-10_000_000_000L);
+
+	private static ZoneOffset uncached(ZoneRules rules, long epochSecond) {
+		rules.getOffset(FAR);
+		return rules.getOffset(Instant.ofEpochSecond(epochSecond));
+	}
+
+	@Test
+	public void test_cached_sweep() {
+		for (String id : new String[] { "Europe/London", "Europe/Paris", "America/New_York" }) {
+			ZoneRules rules = ZoneId.of(id).getRules();
+			for (int i = 0; i < SWEEP_SIZE; i++) {
+				long epochSecond = SWEEP_START + i * SWEEP_STEP;
+				ZoneOffset cached = rules.getOffset(Instant.ofEpochSecond(epochSecond));
+				assertEquals(id + " " + epochSecond, uncached(rules, epochSecond), cached);
+			}
+		}
+	}
+
+	@Test
+	public void test_cursor_sweep() {
+		for (String id : new String[] { "Europe/London", "Europe/Paris", "America/New_York" }) {
+			ZoneRules rules = ZoneId.of(id).getRules();
+			ZoneOffsetCursor cursor = ZoneOffsetCursor.of(rules);
+			for (int i = 0; i < SWEEP_SIZE; i++) {
+				long epochSecond = SWEEP_START + i * SWEEP_STEP;
+				assertEquals(id + " " + epochSecond, uncached(rules, epochSecond), cursor.getOffset(epochSecond));
+			}
+		}
+	}
+
+	@Test
+	public void test_cursor_backward() {
+		ZoneRules rules = ZoneId.of("Europe/Paris").getRules();
+		ZoneOffsetCursor cursor = ZoneOffsetCursor.of(rules);
+		for (int i = SWEEP_SIZE; i > 0; i -= 7) {
+			long epochSecond = SWEEP_START + i * SWEEP_STEP;
+			assertEquals(uncached(rules, epochSecond), cursor.getOffset(Instant.ofEpochSecond(epochSecond)));
+		}
+	}
+
+	@Test
+	public void test_cursor_transition() {
+		ZoneOffsetCursor cursor = ZoneOffsetCursor.of(ZoneId.of("Europe/London"));
+		// 2008-03-30T01:00Z
+		long transition = 1206838800L;
+		assertEquals(ZoneOffset.ofHours(0), cursor.getOffset(transition - 1));
+		assertEquals(transition, cursor.getRangeEnd());
+		assertEquals(ZoneOffset.ofHours(1), cursor.getOffset(transition));
+	}
+
+	@Test
+	public void test_cursor_fixed() {
+		ZoneOffset offset = ZoneOffset.ofHours(3);
+		ZoneOffsetCursor cursor = ZoneOffsetCursor.of(ZoneRules.of(offset));
+		assertEquals(offset, cursor.getOffset(Instant.EPOCH));
+		assertEquals(Long.MAX_VALUE, cursor.getRangeEnd());
+	}
+
+	// timing only, run by BrowserTestZoneOffsetCursor
+	@Test
+	public void long_test_benchmark_sweep() {
+		ZoneRules rules = ZoneId.of("Europe/Paris").getRules();
+
+		long start = System.currentTimeMillis();
+		long uncachedSum = 0;
+		for (int i = 0; i < BENCHMARK_SIZE; i++) {
+			uncachedSum += uncached(rules, SWEEP_START + i * BENCHMARK_STEP).getTotalSeconds();
+		}
+		long uncached = System.currentTimeMillis() - start;
+
+		start = System.currentTimeMillis();
+		long cachedSum = 0;
+		for (int i = 0; i < BENCHMARK_SIZE; i++) {
+			cachedSum += rules.getOffset(Instant.ofEpochSecond(SWEEP_START + i * BENCHMARK_STEP)).getTotalSeconds();
+		}
+		long cached = System.currentTimeMillis() - start;
+
+		start = System.currentTimeMillis();
+		long cursorSum = 0;
+		ZoneOffsetCursor cursor = ZoneOffsetCursor.of(rules);
+		for (int i = 0; i < BENCHMARK_SIZE; i++) {
+			cursorSum += cursor.getOffset(SWEEP_START + i * BENCHMARK_STEP).getTotalSeconds();
+		}
+		long cursored = System.currentTimeMillis() - start;
+
+		LOGGER.info("getOffset sweep of {} instants: uncached {} ms, cached {} ms, cursor {} ms", BENCHMARK_SIZE, uncached, cached, cursored);
+		assertEquals(uncachedSum, cachedSum);
+		assertEquals(uncachedSum, cursorSum);
+	}
+
+}
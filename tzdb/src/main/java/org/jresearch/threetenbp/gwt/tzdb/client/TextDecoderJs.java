@@ -0,0 +1,27 @@
+package org.jresearch.threetenbp.gwt.tzdb.client;
+
+import static jsinterop.annotations.JsPackage.GLOBAL;
+
+import javax.annotation.Nonnull;
+
+import org.gwtproject.typedarrays.shared.Uint8Array;
+
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+
+@JsType(isNative = true, namespace = GLOBAL, name = "TextDecoder")
+public class TextDecoderJs {
+
+	public TextDecoderJs(String label) {
+	}
+
+	@Nonnull
+	public native String decode(Uint8Array input);
+
+	@JsOverlay
+	public static boolean isSupported() {
+		return Js.global().has("TextDecoder");
+	}
+
+}
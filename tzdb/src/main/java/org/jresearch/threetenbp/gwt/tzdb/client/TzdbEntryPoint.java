@@ -1,15 +1,23 @@
 package org.jresearch.threetenbp.gwt.tzdb.client;
 
 import org.jresearch.threetenbp.gwt.time.client.Support;
+import org.jresearch.threetenbp.gwt.tzdb.client.zone.GwtTzdbAsyncZoneRuleProvider;
 import org.jresearch.threetenbp.gwt.tzdb.client.zone.GwtTzdbZoneRuleProvider;
 
 import com.google.gwt.core.client.EntryPoint;
 
 public class TzdbEntryPoint implements EntryPoint {
 
+	/** Set by the {@code org.jresearch.threetenbp.gwt.tzdb.async} configuration property. */
+	private static final boolean ASYNC = "true".equals(System.getProperty("org.jresearch.threetenbp.gwt.tzdb.async"));
+
 	@Override
 	public void onModuleLoad() {
-		Support.registerGwtZoneRuleProvider(new GwtTzdbZoneRuleProvider());
+		if (ASYNC) {
+			Support.registerGwtZoneRuleProvider(new GwtTzdbAsyncZoneRuleProvider());
+		} else {
+			Support.registerGwtZoneRuleProvider(new GwtTzdbZoneRuleProvider());
+		}
 	}
 
 }
@@ -8,7 +8,9 @@ import org.gwtproject.typedarrays.shared.Uint8Array;
 
 import elemental2.core.ArrayBuffer;
 import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsOverlay;
 import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
 
 @JsType(isNative = true, namespace = GLOBAL, name = "support")
 public class TzdbJs {
@@ -21,4 +23,28 @@ public class TzdbJs {
 	@JsMethod(namespace = "Base64Binary")
 	public static native Uint8Array decode(String base64);
 
+	/**
+	 * Native base64 decoder, check {@link #isFromBase64Supported()} before use
+	 */
+	@Nonnull
+	@JsMethod(namespace = "Uint8Array")
+	public static native Uint8Array fromBase64(String base64);
+
+	/**
+	 * Native base64 to binary string decoder, check {@link #isAtobSupported()} before use
+	 */
+	@Nonnull
+	@JsMethod(namespace = GLOBAL)
+	public static native String atob(String base64);
+
+	@JsOverlay
+	public static boolean isFromBase64Supported() {
+		return Js.global().has("Uint8Array") && Js.asPropertyMap(Js.global().get("Uint8Array")).has("fromBase64");
+	}
+
+	@JsOverlay
+	public static boolean isAtobSupported() {
+		return Js.global().has("atob");
+	}
+
 }
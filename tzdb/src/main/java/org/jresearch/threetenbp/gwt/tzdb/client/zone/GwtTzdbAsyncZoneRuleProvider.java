@@ -0,0 +1,93 @@
+package org.jresearch.threetenbp.gwt.tzdb.client.zone;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jresearch.threetenbp.gwt.time.client.zone.GwtZoneRuleProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gwt.core.client.Callback;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.RunAsyncCallback;
+
+/**
+ * TZDB provider that loads the time-zone data behind a {@code GWT.runAsync}
+ * split point, so the data is not a part of the initial download.
+ * <p>
+ * Enabled by the {@code org.jresearch.threetenbp.gwt.tzdb.async} configuration
+ * property. A synchronous {@link #initialize()} can't wait for the fragment, it
+ * only starts the download; the region based zones are available as soon as
+ * the fragment is loaded. Use {@code Support.initTzDataAsync} to be notified.
+ */
+public class GwtTzdbAsyncZoneRuleProvider implements GwtZoneRuleProvider {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(GwtTzdbAsyncZoneRuleProvider.class);
+
+	private static final List<Callback<Void, Throwable>> callbacks = new ArrayList<>();
+
+	private static boolean loading = false;
+
+	@Override
+	public boolean isInitialized() {
+		return TzdbLoader.isLoaded();
+	}
+
+	@Override
+	public void initialize() {
+		LOGGER.debug("TZDB sync initialization called in async mode");
+		if (!TzdbLoader.isLoaded() && !loading) {
+			LOGGER.warn("TZDB is not loaded yet, region based zones are unavailable until the async load finishes");
+			load();
+		}
+	}
+
+	@Override
+	public void initializeAsync(Callback<Void, Throwable> callback) {
+		LOGGER.debug("TZDB async initialization called");
+		if (TzdbLoader.isLoaded()) {
+			callback.onSuccess(null);
+			return;
+		}
+		callbacks.add(callback);
+		if (!loading) {
+			load();
+		}
+	}
+
+	private static void load() {
+		loading = true;
+		GWT.runAsync(GwtTzdbAsyncZoneRuleProvider.class, new RunAsyncCallback() {
+
+			@Override
+			public void onSuccess() {
+				try {
+					TzdbLoader.load();
+				} catch (RuntimeException e) {
+					onFailure(e);
+					return;
+				}
+				loading = false;
+				LOGGER.debug("TZDB async initialization finished");
+				List<Callback<Void, Throwable>> toNotify = new ArrayList<>(callbacks);
+				callbacks.clear();
+				toNotify.forEach(c -> c.onSuccess(null));
+			}
+
+			@Override
+			public void onFailure(Throwable reason) {
+				loading = false;
+				LOGGER.error("TZDB async initialization failed", reason);
+				List<Callback<Void, Throwable>> toNotify = new ArrayList<>(callbacks);
+				callbacks.clear();
+				toNotify.forEach(c -> c.onFailure(reason));
+			}
+		});
+	}
+
+	@Override
+	public String getProviderId() {
+		return TzdbZoneRulesProvider.class.getName();
+	}
+
+}
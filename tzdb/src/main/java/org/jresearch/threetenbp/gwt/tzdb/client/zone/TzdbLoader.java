@@ -0,0 +1,75 @@
+package org.jresearch.threetenbp.gwt.tzdb.client.zone;
+
+import java.time.zone.ZoneRulesProvider;
+
+import org.gwtproject.typedarrays.shared.TypedArrays;
+import org.gwtproject.typedarrays.shared.Uint8Array;
+import org.jresearch.threetenbp.gwt.tzdb.client.TzdbJs;
+import org.jresearch.threetenbp.gwt.tzdb.client.loader.TzdbJsBundle;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.ScriptInjector;
+
+import elemental2.core.ArrayBuffer;
+import jsinterop.base.Js;
+
+/**
+ * Decodes the TZDB bundle and registers {@link TzdbZoneRulesProvider}.
+ * <p>
+ * The bundle is only referenced from {@link #load()}, so the TZDB data stays in
+ * the code fragment of the first caller (the split point of
+ * {@link GwtTzdbAsyncZoneRuleProvider} in async mode).
+ */
+final class TzdbLoader {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(TzdbLoader.class);
+
+	private static boolean loaded = false;
+
+	private TzdbLoader() {
+		// prevent instantiation
+	}
+
+	static boolean isLoaded() {
+		return loaded;
+	}
+
+	static void load() {
+		if (!loaded) {
+			LOGGER.debug("TZDB decoding started");
+			TzdbJsBundle bundle = GWT.create(TzdbJsBundle.class);
+			ArrayBuffer buffer = decode(bundle);
+			ZoneRulesProvider.registerProvider(new TzdbZoneRulesProvider(buffer));
+			loaded = true;
+			LOGGER.debug("TZDB decoding finished");
+		}
+	}
+
+	/**
+	 * Decodes the base64 TZDB with the native browser decoder, falls back to
+	 * {@code base64-binary.js} for the old browsers.
+	 */
+	private static ArrayBuffer decode(TzdbJsBundle bundle) {
+		String tzData = bundle.tzdbEncoded().getText();
+		if (TzdbJs.isFromBase64Supported()) {
+			LOGGER.debug("TZDB decoding with Uint8Array.fromBase64");
+			return Js.cast(TzdbJs.fromBase64(tzData).buffer());
+		}
+		if (TzdbJs.isAtobSupported()) {
+			LOGGER.debug("TZDB decoding with atob");
+			String binary = TzdbJs.atob(tzData);
+			int length = binary.length();
+			Uint8Array bytes = TypedArrays.createUint8Array(length);
+			for (int i = 0; i < length; i++) {
+				bytes.set(i, binary.charAt(i));
+			}
+			return Js.cast(bytes.buffer());
+		}
+		LOGGER.debug("TZDB decoding with base64-binary.js");
+		ScriptInjector.fromString(bundle.base64binary().getText()).setWindow(ScriptInjector.TOP_WINDOW).inject();
+		return TzdbJs.decodeArrayBuffer(tzData);
+	}
+
+}
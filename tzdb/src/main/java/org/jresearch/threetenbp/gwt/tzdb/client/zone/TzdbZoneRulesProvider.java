@@ -47,8 +47,8 @@ import java.util.Set;
 import java.util.TreeMap;
 
 import org.gwtproject.nio.TypedArrayHelper;
-import org.gwtproject.typedarrays.client.ArrayBufferNative;
-import org.gwtproject.typedarrays.client.Int8ArrayNative;
+import org.gwtproject.typedarrays.shared.TypedArrays;
+import org.jresearch.threetenbp.gwt.tzdb.client.TextDecoderJs;
 
 import elemental2.core.ArrayBuffer;
 import jsinterop.base.Js;
@@ -71,6 +71,14 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
 	 * All the versions that are available.
 	 */
 	private final NavigableMap<String, Version> versions = new TreeMap<String, Version>();
+	/**
+	 * The raw data, used to decode strings natively, null if not available.
+	 */
+	private final org.gwtproject.typedarrays.shared.ArrayBuffer rawData;
+	/**
+	 * The native UTF-8 decoder, null if not supported by the browser.
+	 */
+	private final TextDecoderJs textDecoder;
 
 	/**
 	 * Creates an instance and loads the specified input stream.
@@ -81,7 +89,25 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
 	 * @throws ZoneRulesException if unable to load
 	 */
 	public TzdbZoneRulesProvider(ByteBuffer data) {
+		this(data, null);
+	}
+
+	/**
+	 * Creates an instance and loads the specified buffer.
+	 * <p>
+	 * The buffer is retained, the rules are decoded on demand from it.
+	 *
+	 * @param data the buffer to load, not null
+	 * @throws ZoneRulesException if unable to load
+	 */
+	public TzdbZoneRulesProvider(ArrayBuffer data) {
+		this(TypedArrayHelper.wrap(data), Js.cast(data));
+	}
+
+	private TzdbZoneRulesProvider(ByteBuffer data, org.gwtproject.typedarrays.shared.ArrayBuffer rawData) {
 		super();
+		this.rawData = rawData;
+		this.textDecoder = rawData != null && TextDecoderJs.isSupported() ? new TextDecoderJs("utf-8") : null;
 		try {
 			load(data);
 		} catch (Exception ex) {
@@ -173,17 +199,17 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
 		// rules
 		int ruleCount = dis.getShort();
 //		ZoneRules[] ruleArray = new ZoneRules[ruleCount];
-		ArrayBuffer[] ruleArray = new ArrayBuffer[ruleCount];
+		// GWT specific - only remember where the rule is, it is decoded on demand
+		int[] ruleOffsets = new int[ruleCount];
+		int[] ruleLengths = new int[ruleCount];
 		for (int i = 0; i < ruleCount; i++) {
-			short length = dis.getShort();
-			ArrayBufferNative buffer = new ArrayBufferNative(length);
-			Int8ArrayNative array = new Int8ArrayNative(buffer);
-			for (int j = 0; j < length; j++) {
-				array.set(j, dis.get());
-			}
+			int length = dis.getShort() & 0xffff;
+			ruleOffsets[i] = dis.position();
+			ruleLengths[i] = length;
 //			ruleArray[i] = (ZoneRules) Ser.read(dis);
-			ruleArray[i] = Js.cast(buffer);
+			dis.position(ruleOffsets[i] + length);
 		}
+		RuleData ruleData = new RuleData(dis, ruleOffsets, ruleLengths);
 		// link version-region-rules
 		Set<Version> versionSet = new HashSet<Version>(versionCount);
 		for (int i = 0; i < versionCount; i++) {
@@ -194,13 +220,19 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
 				versionRegionArray[j] = regionArray[dis.getShort()];
 				versionRulesArray[j] = dis.getShort();
 			}
-			versionSet.add(new Version(versionArray[i], versionRegionArray, versionRulesArray, ruleArray));
+			versionSet.add(new Version(versionArray[i], versionRegionArray, versionRulesArray, ruleData));
 		}
 		return versionSet;
 	}
 
 	private String readUtf(ByteBuffer dis) throws IOException {
 		int stringSize = dis.getShort() & 0xffff;
+		// GWT specific - decode natively on the raw data
+		if (textDecoder != null) {
+			int position = dis.position();
+			dis.position(position + stringSize);
+			return textDecoder.decode(TypedArrays.createUint8Array(rawData, position, stringSize));
+		}
 		byte[] data = new byte[stringSize];
 		dis.get(data);
 		return new String(data, StandardCharsets.UTF_8);
@@ -211,6 +243,37 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
 		return "TZDB";
 	}
 
+	// -----------------------------------------------------------------------
+	/**
+	 * The encoded rules, shared by all versions. Each rule is a range of the
+	 * loaded data, decoded on the first access.
+	 */
+	static class RuleData {
+		private final ByteBuffer data;
+		private final int[] offsets;
+		private final int[] lengths;
+		private final ZoneRules[] rules;
+
+		RuleData(ByteBuffer data, int[] offsets, int[] lengths) {
+			this.data = data;
+			this.offsets = offsets;
+			this.lengths = lengths;
+			this.rules = new ZoneRules[offsets.length];
+		}
+
+		ZoneRules get(short index) throws Exception {
+			ZoneRules rule = rules[index];
+			if (rule == null) {
+				ByteBuffer view = data.duplicate();
+				view.limit(offsets[index] + lengths[index]);
+				view.position(offsets[index]);
+				rule = (ZoneRules) Ser.read(view);
+				rules[index] = rule;
+			}
+			return rule;
+		}
+	}
+
 	// -----------------------------------------------------------------------
 	/**
 	 * A version of the TZDB rules.
@@ -219,12 +282,10 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
 		private final String versionId;
 		private final String[] regionArray;
 		private final short[] ruleIndices;
-		private final ArrayBuffer[] encodeRuleData;
-		private final ZoneRules[] ruleData;
+		private final RuleData ruleData;
 
-		Version(String versionId, String[] regionIds, short[] ruleIndices, ArrayBuffer[] encodeRuleData) {
-			this.encodeRuleData = encodeRuleData;
-			this.ruleData = new ZoneRules[encodeRuleData.length];
+		Version(String versionId, String[] regionIds, short[] ruleIndices, RuleData ruleData) {
+			this.ruleData = ruleData;
 			this.versionId = versionId;
 			this.regionArray = regionIds;
 			this.ruleIndices = ruleIndices;
@@ -244,14 +305,7 @@ public final class TzdbZoneRulesProvider extends ZoneRulesProvider {
 		}
 
 		ZoneRules createRule(short index) throws Exception {
-			ZoneRules rule = ruleData[index];
-			if (rule == null) {
-				ArrayBuffer arrayBuffer = encodeRuleData[index];
-				rule = (ZoneRules) Ser.read(TypedArrayHelper.wrap(arrayBuffer));
-				ruleData[index] = rule;
-				encodeRuleData[index] = null;
-			}
-			return rule;
+			return ruleData.get(index);
 		}
 
 		@Override
@@ -0,0 +1,325 @@
+package org.jresearch.threetenbp.gwt.tzdb.tool;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Build time tool to produce a subset of the TZDB data.
+ * <p>
+ * Reads the base64 encoded {@code TZDB.txt} and writes a new one that contains
+ * only the requested regions, and only the transitions of the requested year
+ * window. The result has the same format as the original, so it is loaded by
+ * {@code TzdbZoneRulesProvider} as is. Out of the year window the offsets are
+ * approximated: the first offset of the window is used before it, the
+ * recurring rules (or the last offset) after it.
+ * <p>
+ * Usage:
+ *
+ * <pre>
+ * TzdbSubset -in TZDB.txt -out TZDB.txt [-regions Europe/*,America/New_York] [-years 1970-2050]
+ * </pre>
+ *
+ * This class is JVM only and is not a part of the GWT module.
+ */
+public final class TzdbSubset {
+
+	/** Type for StandardZoneRules, see {@code Ser}. */
+	private static final byte SZR = 1;
+	/** Quarter hour encoding range for the epoch seconds, see {@code Ser}. */
+	private static final long MIN_EPOCH_SEC = -4575744000L;
+	private static final long MAX_EPOCH_SEC = 10413792000L;
+
+	private final Predicate<String> regionFilter;
+	private final long fromEpochSec;
+	private final long toEpochSec;
+
+	/**
+	 * @param regionFilter accepts the region IDs to keep, not null
+	 * @param fromYear     the first year to keep transitions for
+	 * @param toYear       the last year to keep transitions for
+	 */
+	public TzdbSubset(Predicate<String> regionFilter, int fromYear, int toYear) {
+		if (fromYear > toYear) {
+			throw new IllegalArgumentException("Invalid year window: " + fromYear + "-" + toYear);
+		}
+		this.regionFilter = regionFilter;
+		// one day margin, the local year starts up to 14 hours before UTC
+		this.fromEpochSec = LocalDate.of(fromYear, 1, 1).minusDays(1).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+		this.toEpochSec = LocalDate.of(toYear + 1, 1, 1).plusDays(1).atStartOfDay().toEpochSecond(ZoneOffset.UTC);
+	}
+
+	public static void main(String[] args) throws IOException {
+		// an empty value may be dropped by the launcher
+		Map<String, String> options = new HashMap<>();
+		for (int i = 0; i < args.length; i++) {
+			if (i + 1 < args.length && !args[i + 1].startsWith("-")) {
+				options.put(args[i], args[++i]);
+			} else {
+				options.put(args[i], "");
+			}
+		}
+		String in = options.get("-in");
+		String out = options.get("-out");
+		if (in == null || in.isEmpty() || out == null || out.isEmpty()) {
+			System.err.println("Usage: TzdbSubset -in TZDB.txt -out TZDB.txt [-regions Europe/*,UTC] [-years 1970-2050]");
+			System.exit(1);
+			return;
+		}
+		int fromYear = Integer.MIN_VALUE / 2;
+		int toYear = Integer.MAX_VALUE / 2;
+		String years = options.get("-years");
+		if (years != null && !years.trim().isEmpty()) {
+			String[] bounds = years.trim().split("-");
+			fromYear = Integer.parseInt(bounds[0].trim());
+			toYear = Integer.parseInt(bounds[1].trim());
+		}
+		TzdbSubset subset = new TzdbSubset(regionFilter(options.get("-regions")), Math.max(fromYear, -999_999), Math.min(toYear, 999_999));
+		byte[] data = Base64.getMimeDecoder().decode(new String(Files.readAllBytes(Paths.get(in)), StandardCharsets.US_ASCII).trim());
+		byte[] result = subset.subset(data);
+		Path outPath = Paths.get(out);
+		if (outPath.getParent() != null) {
+			Files.createDirectories(outPath.getParent());
+		}
+		Files.write(outPath, Base64.getEncoder().encode(result));
+		System.out.println("TZDB subset written to " + out + ": " + data.length + " -> " + result.length + " bytes");
+	}
+
+	/**
+	 * Creates a filter from a comma separated list of region IDs. An ID ending with
+	 * {@code *} is a prefix. Null or empty list accepts all regions.
+	 *
+	 * @param regions the comma separated IDs, may be null
+	 * @return the filter, not null
+	 */
+	public static Predicate<String> regionFilter(String regions) {
+		if (regions == null || regions.trim().isEmpty()) {
+			return id -> true;
+		}
+		Predicate<String> result = id -> false;
+		for (String region : regions.split(",")) {
+			String pattern = region.trim();
+			if (pattern.isEmpty()) {
+				continue;
+			}
+			if (pattern.endsWith("*")) {
+				String prefix = pattern.substring(0, pattern.length() - 1);
+				result = result.or(id -> id.startsWith(prefix));
+			} else {
+				result = result.or(pattern::equals);
+			}
+		}
+		return result;
+	}
+
+	/**
+	 * Produces the subset.
+	 *
+	 * @param data the TZDB data, not null
+	 * @return the subset in the same format, not null
+	 * @throws IOException if the data is corrupted
+	 */
+	public byte[] subset(byte[] data) throws IOException {
+		DataInputStream dis = new DataInputStream(new ByteArrayInputStream(data));
+		if (dis.readByte() != 1) {
+			throw new IOException("File format not recognised");
+		}
+		String groupId = dis.readUTF();
+		if (!"TZDB".equals(groupId)) {
+			throw new IOException("File format not recognised");
+		}
+		int versionCount = dis.readShort();
+		String[] versions = new String[versionCount];
+		for (int i = 0; i < versionCount; i++) {
+			versions[i] = dis.readUTF();
+		}
+		int regionCount = dis.readShort();
+		String[] regions = new String[regionCount];
+		for (int i = 0; i < regionCount; i++) {
+			regions[i] = dis.readUTF();
+		}
+		int ruleCount = dis.readShort();
+		byte[][] rules = new byte[ruleCount][];
+		for (int i = 0; i < ruleCount; i++) {
+			byte[] rule = new byte[dis.readShort() & 0xffff];
+			dis.readFully(rule);
+			rules[i] = rule;
+		}
+		List<Map<Integer, Integer>> versionRegions = new ArrayList<>(versionCount);
+		for (int i = 0; i < versionCount; i++) {
+			int versionRegionCount = dis.readShort();
+			Map<Integer, Integer> regionRules = new LinkedHashMap<>();
+			for (int j = 0; j < versionRegionCount; j++) {
+				int region = dis.readShort();
+				int rule = dis.readShort();
+				if (regionFilter.test(regions[region])) {
+					regionRules.put(region, rule);
+				}
+			}
+			versionRegions.add(regionRules);
+		}
+
+		// re-index the kept regions (sorted as the original) and rules
+		int[] regionIndex = new int[regionCount];
+		List<String> keptRegions = new ArrayList<>();
+		for (int i = 0; i < regionCount; i++) {
+			regionIndex[i] = -1;
+			if (regionFilter.test(regions[i])) {
+				regionIndex[i] = keptRegions.size();
+				keptRegions.add(regions[i]);
+			}
+		}
+		int[] ruleIndex = new int[ruleCount];
+		Arrays.fill(ruleIndex, -1);
+		for (Map<Integer, Integer> regionRules : versionRegions) {
+			for (int rule : regionRules.values()) {
+				ruleIndex[rule] = 0;
+			}
+		}
+		List<byte[]> keptRules = new ArrayList<>();
+		for (int i = 0; i < ruleCount; i++) {
+			if (ruleIndex[i] == 0) {
+				ruleIndex[i] = keptRules.size();
+				keptRules.add(trim(rules[i]));
+			}
+		}
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(baos);
+		out.writeByte(1);
+		out.writeUTF(groupId);
+		out.writeShort(versionCount);
+		for (String version : versions) {
+			out.writeUTF(version);
+		}
+		out.writeShort(keptRegions.size());
+		for (String region : keptRegions) {
+			out.writeUTF(region);
+		}
+		out.writeShort(keptRules.size());
+		for (byte[] rule : keptRules) {
+			out.writeShort(rule.length);
+			out.write(rule);
+		}
+		for (Map<Integer, Integer> regionRules : versionRegions) {
+			out.writeShort(regionRules.size());
+			for (Map.Entry<Integer, Integer> entry : regionRules.entrySet()) {
+				out.writeShort(regionIndex[entry.getKey()]);
+				out.writeShort(ruleIndex[entry.getValue()]);
+			}
+		}
+		out.flush();
+		return baos.toByteArray();
+	}
+
+	/**
+	 * Drops the transitions out of the year window from the serialized
+	 * {@code StandardZoneRules}. The last transition before the window is kept,
+	 * so the offsets at the window start are right, and the trailing transitions
+	 * are kept if there are recurring rules, as they start after the last one.
+	 */
+	private byte[] trim(byte[] rule) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(rule));
+		if (in.readByte() != SZR) {
+			return rule;
+		}
+		// standard transitions and offsets, then savings transitions and wall offsets
+		long[][] transitions = new long[2][];
+		int[][] offsets = new int[2][];
+		for (int part = 0; part < 2; part++) {
+			int size = in.readInt();
+			transitions[part] = new long[size];
+			for (int i = 0; i < size; i++) {
+				transitions[part][i] = readEpochSec(in);
+			}
+			offsets[part] = new int[size + 1];
+			for (int i = 0; i < offsets[part].length; i++) {
+				offsets[part][i] = readOffset(in);
+			}
+		}
+		// the recurring rules are kept as is, the first byte is their count
+		byte[] lastRules = new byte[in.available()];
+		in.readFully(lastRules);
+		boolean recurring = lastRules.length > 0 && lastRules[0] != 0;
+
+		ByteArrayOutputStream baos = new ByteArrayOutputStream(rule.length);
+		DataOutputStream out = new DataOutputStream(baos);
+		out.writeByte(SZR);
+		for (int part = 0; part < 2; part++) {
+			long[] partTransitions = transitions[part];
+			int size = partTransitions.length;
+			int first = 0;
+			while (first < size && partTransitions[first] < fromEpochSec) {
+				first++;
+			}
+			first = Math.max(0, first - 1);
+			int last = size;
+			while (!recurring && last > first && partTransitions[last - 1] > toEpochSec) {
+				last--;
+			}
+			out.writeInt(last - first);
+			for (int i = first; i < last; i++) {
+				writeEpochSec(partTransitions[i], out);
+			}
+			for (int i = first; i <= last; i++) {
+				writeOffset(offsets[part][i], out);
+			}
+		}
+		out.write(lastRules);
+		out.flush();
+		return baos.toByteArray();
+	}
+
+	private static long readEpochSec(DataInputStream in) throws IOException {
+		int hiByte = in.readByte() & 255;
+		if (hiByte == 255) {
+			return in.readLong();
+		}
+		int midByte = in.readByte() & 255;
+		int loByte = in.readByte() & 255;
+		long tot = ((hiByte << 16) + (midByte << 8) + loByte);
+		return (tot * 900) - 4575744000L;
+	}
+
+	private static void writeEpochSec(long epochSec, DataOutputStream out) throws IOException {
+		if (epochSec >= MIN_EPOCH_SEC && epochSec < MAX_EPOCH_SEC && epochSec % 900 == 0) {
+			int store = (int) ((epochSec + 4575744000L) / 900);
+			out.writeByte((store >>> 16) & 255);
+			out.writeByte((store >>> 8) & 255);
+			out.writeByte(store & 255);
+		} else {
+			out.writeByte(255);
+			out.writeLong(epochSec);
+		}
+	}
+
+	private static int readOffset(DataInputStream in) throws IOException {
+		int offsetByte = in.readByte();
+		return offsetByte == 127 ? in.readInt() : offsetByte * 900;
+	}
+
+	private static void writeOffset(int offsetSecs, DataOutputStream out) throws IOException {
+		int offsetByte = offsetSecs % 900 == 0 ? offsetSecs / 900 : 127;
+		out.writeByte(offsetByte);
+		if (offsetByte == 127) {
+			out.writeInt(offsetSecs);
+		}
+	}
+
+}
@@ -3,9 +3,12 @@ package org.jresearch.threetenbp.gwt.tzdb.client;
 import java.time.ZoneId;
 
 import org.jresearch.threetenbp.gwt.time.client.Support;
+import org.jresearch.threetenbp.gwt.tzdb.client.zone.GwtTzdbAsyncZoneRuleProvider;
 import org.jresearch.threetenbp.gwt.tzdb.client.zone.GwtTzdbZoneRuleProvider;
 import org.junit.Test;
 
+import com.google.gwt.core.client.Callback;
+
 public class GwtTest extends AbstractTest {
 
 	@Test
@@ -14,4 +17,38 @@ public class GwtTest extends AbstractTest {
 		ZoneId.of("Europe/Paris");
 	}
 
+	@Test
+	public void testTzdbProviderInitAsync() {
+		delayTestFinish(10000);
+		new GwtTzdbAsyncZoneRuleProvider().initializeAsync(new Callback<Void, Throwable>() {
+			@Override
+			public void onSuccess(Void result) {
+				assertNotNull(ZoneId.of("Europe/Paris"));
+				finishTest();
+			}
+
+			@Override
+			public void onFailure(Throwable reason) {
+				fail(reason.getMessage());
+			}
+		});
+	}
+
+	@Test
+	public void testInitTzDataAsync() {
+		delayTestFinish(10000);
+		Support.initTzDataAsync(new Callback<Void, Throwable>() {
+			@Override
+			public void onSuccess(Void result) {
+				assertTrue(Support.isTzTnitialized());
+				finishTest();
+			}
+
+			@Override
+			public void onFailure(Throwable reason) {
+				fail(reason.getMessage());
+			}
+		});
+	}
+
 }
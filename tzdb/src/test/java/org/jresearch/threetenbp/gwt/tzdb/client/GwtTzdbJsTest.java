@@ -20,4 +20,22 @@ public class GwtTzdbJsTest extends AbstractTest {
 		assertEquals(0x75, data.get(5));
 	}
 
+	@Test
+	public void testAtob() {
+		if (TzdbJs.isAtobSupported()) {
+			assertEquals("The qu", TzdbJs.atob("VGhlIHF1"));
+		}
+	}
+
+	@Test
+	public void testFromBase64() {
+		if (TzdbJs.isFromBase64Supported()) {
+			Uint8Array data = TzdbJs.fromBase64("VGhlIHF1");
+			assertNotNull(data);
+			assertEquals(6, data.length());
+			assertEquals(0x54, data.get(0));
+			assertEquals(0x75, data.get(5));
+		}
+	}
+
 }
@@ -0,0 +1,120 @@
+package org.jresearch.threetenbp.gwt.tzdb.tool;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamConstants;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneRules;
+import java.util.Base64;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+/**
+ * JVM test of the TZDB subset tool.
+ */
+public class TestTzdbSubset {
+
+	private static byte[] tzdb() throws IOException {
+		try (InputStream in = TestTzdbSubset.class.getResourceAsStream("/org/jresearch/threetenbp/gwt/tzdb/client/loader/TZDB.txt")) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[8192];
+			int read;
+			while ((read = in.read(buffer)) > 0) {
+				out.write(buffer, 0, read);
+			}
+			return Base64.getMimeDecoder().decode(new String(out.toByteArray(), StandardCharsets.US_ASCII).trim());
+		}
+	}
+
+	@Test
+	public void testRegionFilter() {
+		Predicate<String> filter = TzdbSubset.regionFilter("Europe/*, America/New_York");
+		assertTrue(filter.test("Europe/Paris"));
+		assertTrue(filter.test("America/New_York"));
+		assertFalse(filter.test("America/Chicago"));
+		assertTrue(TzdbSubset.regionFilter("").test("Asia/Tokyo"));
+	}
+
+	@Test
+	public void testSubsetAllIsSame() throws IOException {
+		byte[] data = tzdb();
+		assertArrayEquals(data, new TzdbSubset(id -> true, -999_999, 999_999).subset(data));
+	}
+
+	@Test
+	public void testSubsetKeepsRecurringTransitions() throws Exception {
+		byte[] data = tzdb();
+		Predicate<String> paris = TzdbSubset.regionFilter("Europe/Paris");
+		ZoneRules full = firstRules(new TzdbSubset(paris, -999_999, 999_999).subset(data));
+		ZoneRules trimmed = firstRules(new TzdbSubset(paris, 2000, 2050).subset(data));
+		String[] instants = { "2000-01-01T00:00:00Z", "2000-06-01T00:00:00Z", "2024-02-01T00:00:00Z", "2050-12-31T00:00:00Z",
+				"2060-06-01T00:00:00Z" };
+		for (String text : instants) {
+			Instant instant = Instant.parse(text);
+			assertNotNull(text, trimmed.nextTransition(instant));
+			assertEquals(text, full.nextTransition(instant), trimmed.nextTransition(instant));
+			assertEquals(text, full.previousTransition(instant), trimmed.previousTransition(instant));
+			assertEquals(text, full.getOffset(instant), trimmed.getOffset(instant));
+		}
+	}
+
+	/**
+	 * Reads the first rules of the subset with the JDK, the serialized form of
+	 * {@code ZoneRules} is the same as the one of the ThreeTen backport.
+	 */
+	private static ZoneRules firstRules(byte[] subset) throws IOException, ClassNotFoundException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(subset));
+		in.readByte();
+		in.readUTF();
+		for (int i = in.readShort(); i > 0; i--) {
+			in.readUTF();
+		}
+		for (int i = in.readShort(); i > 0; i--) {
+			in.readUTF();
+		}
+		in.readShort();
+		byte[] rule = new byte[in.readShort() & 0xffff];
+		in.readFully(rule);
+		// the externalized fixed rules are the type byte and 11 bytes of data
+		ByteArrayOutputStream fixed = new ByteArrayOutputStream();
+		try (ObjectOutputStream out = new ObjectOutputStream(fixed)) {
+			out.writeObject(ZoneRules.of(ZoneOffset.UTC));
+		}
+		byte[] bytes = fixed.toByteArray();
+		ByteArrayOutputStream stream = new ByteArrayOutputStream();
+		stream.write(bytes, 0, bytes.length - 15);
+		DataOutputStream out = new DataOutputStream(stream);
+		out.writeByte(ObjectStreamConstants.TC_BLOCKDATALONG);
+		out.writeInt(rule.length);
+		out.write(rule);
+		out.writeByte(ObjectStreamConstants.TC_ENDBLOCKDATA);
+		try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(stream.toByteArray()))) {
+			return (ZoneRules) ois.readObject();
+		}
+	}
+
+	@Test
+	public void testSubsetIsSmaller() throws IOException {
+		byte[] data = tzdb();
+		byte[] subset = new TzdbSubset(TzdbSubset.regionFilter("Europe/Paris,Asia/Tokyo"), 1970, 2050).subset(data);
+		assertTrue(subset.length < data.length / 10);
+		// format marker and group are kept
+		assertEquals(1, subset[0]);
+	}
+
+}